@@ -0,0 +1,25 @@
+package com.github.pawelj_pl.semver_j;
+
+/**
+ * Reads of multi-byte words from byte arrays. Java 8 variant assembling words from single bytes; multi-release JAR
+ * contains variant for newer JDKs.
+ */
+final class ByteWords {
+
+    private ByteWords() {
+    }
+
+    /**
+     * Reads eight bytes starting at {@code offset} as little endian long.
+     */
+    static long readLongLittleEndian(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL) |
+                (bytes[offset + 1] & 0xFFL) << 8 |
+                (bytes[offset + 2] & 0xFFL) << 16 |
+                (bytes[offset + 3] & 0xFFL) << 24 |
+                (bytes[offset + 4] & 0xFFL) << 32 |
+                (bytes[offset + 5] & 0xFFL) << 40 |
+                (bytes[offset + 6] & 0xFFL) << 48 |
+                (bytes[offset + 7] & 0xFFL) << 56;
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.pawelj_pl.semver_j;
+
+/**
+ * Normalizations which may be applied by {@link SemanticVersion#coerce(CharSequence, CoercionOptions)}.
+ */
+public enum Coercion {
+    /**
+     * Leading and trailing whitespace removed, e.g. {@code " 1.2.3 "}.
+     */
+    TRIMMED_WHITESPACE,
+    
+    /**
+     * Single leading {@code v}, {@code V}, {@code =}, {@code =v} or {@code =V} removed, e.g. {@code v1.2.3} or
+     * {@code =1.2.3}.
+     */
+    STRIPPED_PREFIX,
+    
+    /**
+     * Missing minor and/or patch set to 0, e.g. {@code 1.2} or {@code 1.0-SNAPSHOT}.
+     */
+    FILLED_MISSING_COMPONENTS,
+    
+    /**
+     * Leading zeros removed from numeric components, e.g. {@code 01.02.03}. Such input is accepted by
+     * {@link SemanticVersion#fromString(String)}, but the specification forbids it.
+     */
+    STRIPPED_LEADING_ZEROS,
+    
+    /**
+     * Numeric components following patch moved to the front of build metadata, e.g. {@code 1.2.3.4} becomes
+     * {@code 1.2.3+4}, so precedence is not affected by them.
+     */
+    MOVED_EXTRA_COMPONENTS_TO_BUILD_METADATA
+}
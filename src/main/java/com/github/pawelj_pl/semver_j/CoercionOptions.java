@@ -0,0 +1,72 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable set of coercions allowed during {@link SemanticVersion#coerce(CharSequence, CoercionOptions)}.
+ */
+public final class CoercionOptions {
+    private final Set<Coercion> allowed;
+    
+    private CoercionOptions(Set<Coercion> allowed) {
+        this.allowed = Collections.unmodifiableSet(allowed);
+    }
+    
+    public static CoercionOptions all() {
+        return new CoercionOptions(EnumSet.allOf(Coercion.class));
+    }
+    
+    public static CoercionOptions none() {
+        return new CoercionOptions(EnumSet.noneOf(Coercion.class));
+    }
+    
+    public static CoercionOptions of(Coercion... coercions) {
+        EnumSet<Coercion> allowed = EnumSet.noneOf(Coercion.class);
+        allowed.addAll(Arrays.asList(coercions));
+        return new CoercionOptions(allowed);
+    }
+    
+    public CoercionOptions allow(Coercion coercion) {
+        EnumSet<Coercion> newAllowed = EnumSet.noneOf(Coercion.class);
+        newAllowed.addAll(allowed);
+        newAllowed.add(Objects.requireNonNull(coercion, "Coercion can't be null"));
+        return new CoercionOptions(newAllowed);
+    }
+    
+    public CoercionOptions disallow(Coercion coercion) {
+        EnumSet<Coercion> newAllowed = EnumSet.noneOf(Coercion.class);
+        newAllowed.addAll(allowed);
+        newAllowed.remove(coercion);
+        return new CoercionOptions(newAllowed);
+    }
+    
+    public boolean isAllowed(Coercion coercion) {
+        return allowed.contains(coercion);
+    }
+    
+    public Set<Coercion> getAllowed() {
+        return allowed;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CoercionOptions)) return false;
+        CoercionOptions that = (CoercionOptions) o;
+        return Objects.equals(allowed, that.allowed);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(allowed);
+    }
+    
+    @Override
+    public String toString() {
+        return "CoercionOptions" + allowed;
+    }
+}
@@ -0,0 +1,54 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.Collections;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Version produced by {@link SemanticVersion#coerce(CharSequence, CoercionOptions)} together with coercions which were
+ * needed to obtain it.
+ */
+public final class CoercionResult {
+    private final SemanticVersion version;
+    
+    private final Set<Coercion> appliedCoercions;
+    
+    CoercionResult(SemanticVersion version, Set<Coercion> appliedCoercions) {
+        this.version = version;
+        this.appliedCoercions = Collections.unmodifiableSet(appliedCoercions);
+    }
+    
+    public SemanticVersion getVersion() {
+        return version;
+    }
+    
+    public Set<Coercion> getAppliedCoercions() {
+        return appliedCoercions;
+    }
+    
+    /**
+     * @return true if input did not strictly follow specification (see {@link Coercion#STRIPPED_LEADING_ZEROS})
+     */
+    public boolean isCoerced() {
+        return !appliedCoercions.isEmpty();
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CoercionResult)) return false;
+        CoercionResult that = (CoercionResult) o;
+        return Objects.equals(version, that.version) &&
+                Objects.equals(appliedCoercions, that.appliedCoercions);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(version, appliedCoercions);
+    }
+    
+    @Override
+    public String toString() {
+        return "CoercionResult(" + version + ", " + appliedCoercions + ")";
+    }
+}
@@ -0,0 +1,217 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * Compatibility between two sorted lists of versions (e.g. versions of package A and versions of package B), stored as
+ * run-length encoded bitmap: each row keeps ranges of compatible column indices.
+ * <p>
+ * Instead of checking every pair, compatible versions of each row are given as {@link VersionRangeSet}. As columns are
+ * sorted, every interval of that set covers a contiguous run of columns, found by galloping search continuing from the
+ * previous run. Consecutive rows with equal constraints share the same runs. Rows are computed in parallel chunks using
+ * fork-join.
+ */
+public final class CompatibilityMatrix {
+    private static final int[] NO_RUNS = new int[0];
+
+    private static final int ROWS_PER_TASK = 256;
+
+    private final int columnCount;
+
+    private final int[][] rows;
+
+    private CompatibilityMatrix(int columnCount, int[][] rows) {
+        this.columnCount = columnCount;
+        this.rows = rows;
+    }
+
+    /**
+     * Computes compatibility matrix using common fork-join pool.
+     *
+     * @see #compute(List, List, Function, ForkJoinPool)
+     */
+    public static CompatibilityMatrix compute(List<SemanticVersion> rowVersions, List<SemanticVersion> columnVersions,
+                                              Function<SemanticVersion, VersionRangeSet> constraint) {
+        return compute(rowVersions, columnVersions, constraint, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param rowVersions    versions sorted in ascending order of precedence
+     * @param columnVersions versions sorted in ascending order of precedence
+     * @param constraint     function returning column versions compatible with given row version; it is called
+     *                       concurrently, so it has to be thread safe
+     * @param pool           pool used to compute chunks of rows
+     * @throws IllegalArgumentException if any of the lists is not sorted
+     */
+    public static CompatibilityMatrix compute(List<SemanticVersion> rowVersions, List<SemanticVersion> columnVersions,
+                                              Function<SemanticVersion, VersionRangeSet> constraint,
+                                              ForkJoinPool pool) {
+        Objects.requireNonNull(constraint, "Constraint can't be null");
+        Objects.requireNonNull(pool, "Pool can't be null");
+        SemanticVersion[] rowsArray = toSortedArray(rowVersions);
+        SemanticVersion[] columnsArray = toSortedArray(columnVersions);
+        int[][] rows = new int[rowsArray.length][];
+        pool.invoke(new RowsTask(rowsArray, columnsArray, constraint, rows, 0, rowsArray.length));
+        return new CompatibilityMatrix(columnsArray.length, rows);
+    }
+
+    public int getRowCount() {
+        return rows.length;
+    }
+
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    public boolean isCompatible(int row, int column) {
+        if (column < 0 || column >= columnCount) {
+            throw new IndexOutOfBoundsException(String.format("Column %d out of bounds for %d columns", column,
+                                                              columnCount));
+        }
+        int[] runs = rows[row];
+        int low = 0;
+        int high = runs.length / 2 - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (column < runs[2 * middle]) {
+                high = middle - 1;
+            } else if (column >= runs[2 * middle + 1]) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getCompatibleCount(int row) {
+        int[] runs = rows[row];
+        int count = 0;
+        for (int i = 0; i < runs.length; i += 2) {
+            count += runs[i + 1] - runs[i];
+        }
+        return count;
+    }
+
+    /**
+     * @return runs of compatible columns as consecutive pairs of start (inclusive) and end (exclusive) index
+     */
+    public int[] getRuns(int row) {
+        return rows[row].clone();
+    }
+
+    private static SemanticVersion[] toSortedArray(List<SemanticVersion> versions) {
+        SemanticVersion[] result = versions.toArray(new SemanticVersion[0]);
+        for (int i = 1; i < result.length; i++) {
+            if (result[i - 1].compareTo(result[i]) > 0) {
+                throw new IllegalArgumentException(String.format("Versions are not sorted: %s precedes %s",
+                                                                 result[i - 1], result[i]));
+            }
+        }
+        return result;
+    }
+
+    private static final class RowsTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final SemanticVersion[] rowVersions;
+
+        private final SemanticVersion[] columnVersions;
+
+        private final Function<SemanticVersion, VersionRangeSet> constraint;
+
+        private final int[][] rows;
+
+        private final int from;
+
+        private final int to;
+
+        private RowsTask(SemanticVersion[] rowVersions, SemanticVersion[] columnVersions,
+                         Function<SemanticVersion, VersionRangeSet> constraint, int[][] rows, int from, int to) {
+            this.rowVersions = rowVersions;
+            this.columnVersions = columnVersions;
+            this.constraint = constraint;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowsTask(rowVersions, columnVersions, constraint, rows, from, middle),
+                          new RowsTask(rowVersions, columnVersions, constraint, rows, middle, to));
+                return;
+            }
+            VersionRangeSet previousSet = null;
+            int[] previousRuns = null;
+            for (int row = from; row < to; row++) {
+                VersionRangeSet set = Objects.requireNonNull(constraint.apply(rowVersions[row]),
+                                                             "Constraint returned null");
+                if (!set.equals(previousSet)) {
+                    previousSet = set;
+                    previousRuns = computeRuns(set);
+                }
+                rows[row] = previousRuns;
+            }
+        }
+
+        private int[] computeRuns(VersionRangeSet set) {
+            List<VersionInterval> intervals = set.getIntervals();
+            int[] runs = new int[2 * intervals.size()];
+            int runsLength = 0;
+            int position = 0;
+            for (VersionInterval interval : intervals) {
+                if (position == columnVersions.length) {
+                    break;
+                }
+                int start = firstMatching(interval, position, true);
+                int end = firstMatching(interval, start, false);
+                if (start < end) {
+                    runs[runsLength++] = start;
+                    runs[runsLength++] = end;
+                }
+                position = end;
+            }
+            if (runsLength == 0) {
+                return NO_RUNS;
+            }
+            return runsLength == runs.length ? runs : Arrays.copyOf(runs, runsLength);
+        }
+
+        /**
+         * Galloping search for the first column, starting at {@code from}, which is at or above lower bound of interval
+         * (when {@code lowerBound} is true) or above its upper bound (otherwise).
+         */
+        private int firstMatching(VersionInterval interval, int from, boolean lowerBound) {
+            int low = from;
+            int high = from;
+            int step = 1;
+            while (high < columnVersions.length && !matches(interval, columnVersions[high], lowerBound)) {
+                low = high + 1;
+                high = from + step;
+                step <<= 1;
+            }
+            high = Math.min(high, columnVersions.length);
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (matches(interval, columnVersions[middle], lowerBound)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+            return low;
+        }
+
+        private static boolean matches(VersionInterval interval, SemanticVersion version, boolean lowerBound) {
+            return lowerBound ? interval.isAtOrAboveLower(version) : !interval.isAtOrBelowUpper(version);
+        }
+    }
+}
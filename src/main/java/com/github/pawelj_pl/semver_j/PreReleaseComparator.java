@@ -0,0 +1,26 @@
+package com.github.pawelj_pl.semver_j;
+
+/**
+ * Precedence of pre-release parts. Java 8 variant walking identifiers from the beginning; multi-release JAR contains
+ * variant for newer JDKs.
+ */
+final class PreReleaseComparator {
+    private PreReleaseComparator() {
+    }
+
+    /**
+     * Compares pre-release parts, where null (no pre-release) has higher precedence than any pre-release.
+     */
+    static int compare(String first, String second) {
+        if (first == null) {
+            return second == null ? 0 : 1;
+        }
+        if (second == null) {
+            return -1;
+        }
+        if (first.equals(second)) {
+            return 0;
+        }
+        return PreReleaseIdentifiers.compare(first, second, 0);
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.pawelj_pl.semver_j;
+
+/**
+ * Precedence of pre-release identifiers, compared in place, without splitting or parsing into new objects, so numeric
+ * identifiers of any length are compared by value. Shared by all variants of {@link PreReleaseComparator}.
+ */
+final class PreReleaseIdentifiers {
+    private PreReleaseIdentifiers() {
+    }
+
+    /**
+     * Compares non null pre-release parts identifier by identifier, starting at {@code start}, which has to be the
+     * beginning of an identifier in both of them, preceded by the same identifiers.
+     */
+    static int compare(String first, String second, int start) {
+        int firstStart = start;
+        int secondStart = start;
+        while (true) {
+            int firstEnd = identifierEnd(first, firstStart);
+            int secondEnd = identifierEnd(second, secondStart);
+            int result = compareIdentifiers(first, firstStart, firstEnd, second, secondStart, secondEnd);
+            if (result != 0) {
+                return result;
+            }
+            boolean firstHasNext = firstEnd < first.length();
+            boolean secondHasNext = secondEnd < second.length();
+            if (!firstHasNext || !secondHasNext) {
+                return Boolean.compare(firstHasNext, secondHasNext);
+            }
+            firstStart = firstEnd + 1;
+            secondStart = secondEnd + 1;
+        }
+    }
+
+    private static int identifierEnd(String value, int start) {
+        int end = value.indexOf('.', start);
+        return end < 0 ? value.length() : end;
+    }
+
+    /**
+     * Compares single identifiers according to semantic versioning: numeric identifiers (digits only) by value,
+     * alphanumeric ones lexically in ASCII order, and numeric ones lower than alphanumeric.
+     */
+    private static int compareIdentifiers(String first, int firstStart, int firstEnd,
+                                          String second, int secondStart, int secondEnd) {
+        boolean firstNumeric = isNumeric(first, firstStart, firstEnd);
+        boolean secondNumeric = isNumeric(second, secondStart, secondEnd);
+        if (firstNumeric != secondNumeric) {
+            return firstNumeric ? -1 : 1;
+        }
+        if (firstNumeric) {
+            firstStart = skipLeadingZeros(first, firstStart, firstEnd);
+            secondStart = skipLeadingZeros(second, secondStart, secondEnd);
+            int lengthDifference = (firstEnd - firstStart) - (secondEnd - secondStart);
+            if (lengthDifference != 0) {
+                return lengthDifference;
+            }
+        }
+        int firstLength = firstEnd - firstStart;
+        int secondLength = secondEnd - secondStart;
+        int commonLength = Math.min(firstLength, secondLength);
+        for (int i = 0; i < commonLength; i++) {
+            int difference = first.charAt(firstStart + i) - second.charAt(secondStart + i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return firstLength - secondLength;
+    }
+
+    private static boolean isNumeric(String value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            char current = value.charAt(i);
+            if (current < '0' || current > '9') {
+                return false;
+            }
+        }
+        return end > start;
+    }
+
+    /**
+     * Numeric identifiers of valid versions have no leading zeros; skipping them keeps comparison by length and digits
+     * equivalent to comparison by value for any input.
+     */
+    private static int skipLeadingZeros(String value, int start, int end) {
+        while (start < end - 1 && value.charAt(start) == '0') {
+            start++;
+        }
+        return start;
+    }
+}
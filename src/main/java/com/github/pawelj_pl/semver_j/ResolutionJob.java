@@ -0,0 +1,58 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Request to select versions of a package matching a constraint, resolved by {@link SemverBatchResolver}.
+ */
+public final class ResolutionJob {
+    private final String packageName;
+
+    private final VersionRangeSet constraint;
+
+    private final List<String> candidates;
+
+    public ResolutionJob(String packageName, VersionRangeSet constraint, Collection<String> candidates) {
+        this.packageName = Objects.requireNonNull(packageName, "Package name can't be null");
+        this.constraint = Objects.requireNonNull(constraint, "Constraint can't be null");
+        List<String> candidatesCopy = new ArrayList<>(Objects.requireNonNull(candidates, "Candidates can't be null"));
+        candidatesCopy.forEach(candidate -> Objects.requireNonNull(candidate, "Candidate can't be null"));
+        this.candidates = Collections.unmodifiableList(candidatesCopy);
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public VersionRangeSet getConstraint() {
+        return constraint;
+    }
+
+    public List<String> getCandidates() {
+        return candidates;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResolutionJob)) return false;
+        ResolutionJob that = (ResolutionJob) o;
+        return Objects.equals(packageName, that.packageName) &&
+                Objects.equals(constraint, that.constraint) &&
+                Objects.equals(candidates, that.candidates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(packageName, constraint, candidates);
+    }
+
+    @Override
+    public String toString() {
+        return "ResolutionJob(" + packageName + ", " + constraint + ", " + candidates.size() + " candidates)";
+    }
+}
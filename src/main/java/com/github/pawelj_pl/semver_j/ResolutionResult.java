@@ -0,0 +1,66 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Outcome of {@link ResolutionJob}: candidates matching the constraint, sorted by precedence, and candidates which are
+ * not valid semantic versions.
+ */
+public final class ResolutionResult {
+    private final String packageName;
+
+    private final List<SemanticVersion> matching;
+
+    private final List<String> invalidCandidates;
+
+    ResolutionResult(String packageName, List<SemanticVersion> matching, List<String> invalidCandidates) {
+        this.packageName = packageName;
+        this.matching = Collections.unmodifiableList(matching);
+        this.invalidCandidates = Collections.unmodifiableList(invalidCandidates);
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    /**
+     * @return matching versions in ascending order of precedence
+     */
+    public List<SemanticVersion> getMatching() {
+        return matching;
+    }
+
+    /**
+     * @return matching version with the highest precedence
+     */
+    public Optional<SemanticVersion> getBest() {
+        return matching.isEmpty() ? Optional.empty() : Optional.of(matching.get(matching.size() - 1));
+    }
+
+    public List<String> getInvalidCandidates() {
+        return invalidCandidates;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResolutionResult)) return false;
+        ResolutionResult that = (ResolutionResult) o;
+        return Objects.equals(packageName, that.packageName) &&
+                Objects.equals(matching, that.matching) &&
+                Objects.equals(invalidCandidates, that.invalidCandidates);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(packageName, matching, invalidCandidates);
+    }
+
+    @Override
+    public String toString() {
+        return "ResolutionResult(" + packageName + ", " + matching + ", " + invalidCandidates + ")";
+    }
+}
@@ -2,9 +2,7 @@ package com.github.pawelj_pl.semver_j;
 
 import com.github.pawelj_pl.semver_j.exceptions.VersionError;
 
-import java.util.Arrays;
-import java.util.Iterator;
-import java.util.List;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
@@ -22,19 +20,21 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
     
     private final String buildMetadata;
     
-    private final static String WITHOUT_LEADING_ZEROS_PATTERN =
+    final static String WITHOUT_LEADING_ZEROS_PATTERN =
             "[A-Za-z1-9-][A-Za-z0-9-]*(?:\\.[A-Za-z1-9-][A-Za-z0-9-]*)*";
     
     
-    private final static String WITH_LEADING_ZEROS_PATTERN = "[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*";
+    final static String WITH_LEADING_ZEROS_PATTERN = "[A-Za-z0-9-]+(?:\\.[A-Za-z0-9-]+)*";
     
     private final static String COMPONENTS_PATTERN =
             String.format("^(?<major>\\d+)\\.(?<minor>\\d+)\\.(?<patch>\\d+)(?:-(?<preRelease>%s))?(?:\\+(?<buildMetadata>%s))?$", WITHOUT_LEADING_ZEROS_PATTERN, WITH_LEADING_ZEROS_PATTERN);
     
+    private final static Pattern COMPILED_COMPONENTS_PATTERN = Pattern.compile(COMPONENTS_PATTERN);
+    
     public SemanticVersion(Integer major, Integer minor, Integer patch, String preRelease, String buildMetadata) {
         Stream.of(major, minor, patch).forEach(this::validateNumericParameter);
-        validateParameterRegex(preRelease, WITHOUT_LEADING_ZEROS_PATTERN);
-        validateParameterRegex(buildMetadata, WITH_LEADING_ZEROS_PATTERN);
+        validateIdentifiers(preRelease, WITHOUT_LEADING_ZEROS_PATTERN, false);
+        validateIdentifiers(buildMetadata, WITH_LEADING_ZEROS_PATTERN, true);
         this.major = major;
         this.minor = minor;
         this.patch = patch;
@@ -112,75 +112,14 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
             return patch - o.patch;
         }
         
-        return comparePreRelease(o.preRelease);
+        return PreReleaseComparator.compare(preRelease, o.preRelease);
     }
     
-    private int comparePreRelease(String otherPreRelease) {
-        if (preRelease != null && otherPreRelease == null) {
-            return -1;
-        }
-        
-        if (preRelease == null && otherPreRelease != null) {
-            return 1;
-        }
-        
-        if (preRelease == null || preRelease.equals(otherPreRelease)) {
-            return 0;
-        }
-    
-        List<String> thisIds = Arrays.asList(preRelease.split("\\."));
-        List<String> otherIds = Arrays.asList(otherPreRelease.split("\\."));
-    
-        Iterator<String> thisIterator = thisIds.iterator();
-        Iterator<String> otherIterator = otherIds.iterator();
-        
-        while (thisIterator.hasNext() && otherIterator.hasNext()) {
-            int result = (comparePreReleasePart(thisIterator.next(), otherIterator.next()));
-            if (result != 0) {
-                return result;
-            }
-        }
-        
-        if (thisIds.size() == otherIds.size()) {
-            return 0;
-        }
-        
-        return thisIds.size() > otherIds.size() ? 1 : -1;
-    }
-    
-    private int comparePreReleasePart(String thisPart, String otherPart) {
-        if (thisPart.equals(otherPart)) {
-            return 0;
-        }
-        if (isNumeric(thisPart) && !isNumeric(otherPart)) {
-            return -1;
-        }
-        if (!isNumeric(thisPart) && isNumeric(otherPart)) {
-            return 1;
-        }
-        if (isNumeric(thisPart) && isNumeric(otherPart)) {
-            return Integer.parseInt(thisPart) - Integer.parseInt(otherPart);
-        }
-        return thisPart.compareTo(otherPart);
-    }
-    
-    private boolean isNumeric(String element) {
-        try {
-            //noinspection ResultOfMethodCallIgnored
-            Integer.parseInt(element);
-        } catch (NumberFormatException err) {
-            return false;
-        }
-        return true;
-    }
-    
-    private void validateParameterRegex(String parameter, String regex) {
+    private void validateIdentifiers(String parameter, String regex, boolean allowLeadingZeros) {
         if (parameter == null) {
             return;
         }
-        Pattern compiledPattern = Pattern.compile(regex);
-        Matcher matcher = compiledPattern.matcher(parameter);
-        if (!matcher.matches()) {
+        if (!VersionValidator.matchesIdentifiers(parameter, allowLeadingZeros)) {
             throw new VersionError(String.format("Provided version element %s doesn't match to pattern: %s",
                                                  parameter, regex));
         }
@@ -194,8 +133,11 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
     }
     
     public static SemanticVersion fromString(String version) {
-        Pattern compiledPattern = Pattern.compile(COMPONENTS_PATTERN);
-        Matcher matcher = compiledPattern.matcher(version);
+        SemanticVersion parsed = VersionParser.parse(version);
+        if (parsed != null) {
+            return parsed;
+        }
+        Matcher matcher = COMPILED_COMPONENTS_PATTERN.matcher(version);
         if (!matcher.find()) {
             throw new VersionError(String.format("%s is not valid semver", version));
         }
@@ -206,6 +148,55 @@ public class SemanticVersion implements Comparable<SemanticVersion> {
                                    matcher.group("buildMetadata"));
     }
     
+    /**
+     * Checks whether bytes in range [offset, offset + length) contain ASCII encoded semantic version which would be
+     * accepted by {@link #fromString(String)}. Pre-release and build metadata are validated eight bytes at a time.
+     * <p>
+     * The only difference is a single trailing line terminator (e.g. {@code 1.2.3\n}): {@link #fromString(String)}
+     * tolerates it, as its pattern ends with {@code $}, while here it makes the version invalid.
+     *
+     * @throws IndexOutOfBoundsException if range exceeds array bounds
+     */
+    public static boolean isValid(byte[] version, int offset, int length) {
+        return VersionValidator.isValidVersion(version, offset, length);
+    }
+    
+    /**
+     * Parses ASCII encoded version from bytes in range [offset, offset + length) without creating intermediate String.
+     * Accepts exactly the input for which {@link #isValid(byte[], int, int)} returns true (so, unlike
+     * {@link #fromString(String)}, no trailing line terminator); pre-release and build metadata are scanned eight bytes
+     * at a time.
+     *
+     * @throws VersionError if input is not valid semantic version
+     * @throws IndexOutOfBoundsException if range exceeds array bounds
+     */
+    public static SemanticVersion fromBytes(byte[] version, int offset, int length) {
+        SemanticVersion parsed = VersionParser.parse(version, offset, length);
+        if (parsed == null) {
+            throw new VersionError(String.format("%s is not valid semver",
+                                                 new String(version, offset, length, StandardCharsets.US_ASCII)));
+        }
+        return parsed;
+    }
+    
+    /**
+     * Lenient counterpart of {@link #fromString(String)}. Normalizes common non-strict forms, like {@code v1.2},
+     * {@code 1.2.3.4}, {@code 1.0-SNAPSHOT} or {@code =1.2.3}, in a single pass.
+     * <p>
+     * Strict means the grammar of the specification, which is narrower than the one accepted by
+     * {@link #fromString(String)}: leading zeros in major, minor or patch (e.g. {@code 01.2.3}) are accepted by
+     * {@link #fromString(String)}, but here they are reported as {@link Coercion#STRIPPED_LEADING_ZEROS}.
+     *
+     * @param options coercions which may be applied
+     * @return parsed version and coercions which were applied (empty for version strictly following specification)
+     * @throws VersionError if input can't be coerced using allowed coercions
+     */
+    public static CoercionResult coerce(CharSequence version, CoercionOptions options) {
+        Objects.requireNonNull(version, "Version can't be null");
+        Objects.requireNonNull(options, "Coercion options can't be null");
+        return VersionCoercer.coerce(version, options);
+    }
+    
     public SemanticVersion copy() {
         return new SemanticVersion(major, minor, patch, preRelease, buildMetadata);
     }
@@ -0,0 +1,133 @@
+package com.github.pawelj_pl.semver_j;
+
+import com.github.pawelj_pl.semver_j.exceptions.VersionError;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Resolves many {@link ResolutionJob}s concurrently on caller supplied {@link Executor} (e.g. fork-join pool or
+ * virtual thread per task executor). Each job parses candidates with {@link SemanticVersion#fromString(String)},
+ * keeps the ones matching its constraint and sorts them with {@link SemanticVersion#compareTo(SemanticVersion)}.
+ * <p>
+ * Parsed versions are immutable, so they are shared between jobs and threads through a bounded cache, which also
+ * remembers candidates that are not valid versions. Matching versions are collected in a list sized for all
+ * candidates and sorted in place, which then becomes the result, so apart from it each job allocates only for
+ * candidates missing in the cache. No state is kept per thread, so the resolver works the same way on pooled and
+ * virtual threads.
+ */
+public final class SemverBatchResolver {
+    private static final int DEFAULT_CACHE_CAPACITY = 100_000;
+
+    /**
+     * Cached (and compared by identity) for candidates which are not valid semantic versions, so failed parsing with
+     * its exception is not repeated either.
+     */
+    private static final SemanticVersion INVALID = new SemanticVersion(0, 0, 0);
+
+    private final Executor executor;
+
+    private final int cacheCapacity;
+
+    private final ConcurrentMap<String, SemanticVersion> cache = new ConcurrentHashMap<>();
+
+    public SemverBatchResolver(Executor executor) {
+        this(executor, DEFAULT_CACHE_CAPACITY);
+    }
+
+    /**
+     * @param cacheCapacity number of parsed (valid or invalid) candidates kept in cache (may be slightly exceeded by
+     *                      concurrent inserts); once it is reached, candidates missing in the cache are parsed on every
+     *                      use
+     */
+    public SemverBatchResolver(Executor executor, int cacheCapacity) {
+        if (cacheCapacity < 0) {
+            throw new IllegalArgumentException("Cache capacity can't be negative");
+        }
+        this.executor = Objects.requireNonNull(executor, "Executor can't be null");
+        this.cacheCapacity = cacheCapacity;
+    }
+
+    public CompletableFuture<ResolutionResult> submit(ResolutionJob job) {
+        Objects.requireNonNull(job, "Job can't be null");
+        return CompletableFuture.supplyAsync(() -> resolve(job), executor);
+    }
+
+    /**
+     * @return futures of results in the order of provided jobs
+     */
+    public List<CompletableFuture<ResolutionResult>> submitAll(Collection<ResolutionJob> jobs) {
+        List<CompletableFuture<ResolutionResult>> result = new ArrayList<>(jobs.size());
+        for (ResolutionJob job : jobs) {
+            result.add(submit(job));
+        }
+        return result;
+    }
+
+    /**
+     * @return future completed with results in the order of provided jobs, once all of them are resolved
+     */
+    public CompletableFuture<List<ResolutionResult>> resolveAll(Collection<ResolutionJob> jobs) {
+        List<CompletableFuture<ResolutionResult>> futures = submitAll(jobs);
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            List<ResolutionResult> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<ResolutionResult> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    int getCacheSize() {
+        return cache.size();
+    }
+
+    private ResolutionResult resolve(ResolutionJob job) {
+        List<String> candidates = job.getCandidates();
+        List<SemanticVersion> matching = new ArrayList<>(candidates.size());
+        List<String> invalid = null;
+        for (String candidate : candidates) {
+            SemanticVersion version = parse(candidate);
+            if (version == null) {
+                if (invalid == null) {
+                    invalid = new ArrayList<>();
+                }
+                invalid.add(candidate);
+            } else if (job.getConstraint().contains(version)) {
+                matching.add(version);
+            }
+        }
+        Collections.sort(matching);
+        return new ResolutionResult(job.getPackageName(), matching,
+                                    invalid == null ? Collections.emptyList() : invalid);
+    }
+
+    /**
+     * @return parsed version or null if candidate is not valid semantic version
+     */
+    private SemanticVersion parse(String candidate) {
+        SemanticVersion version = cache.get(candidate);
+        if (version == null) {
+            version = parseOrInvalid(candidate);
+            if (cache.size() < cacheCapacity) {
+                cache.putIfAbsent(candidate, version);
+            }
+        }
+        return version == INVALID ? null : version;
+    }
+
+    private static SemanticVersion parseOrInvalid(String candidate) {
+        try {
+            return SemanticVersion.fromString(candidate);
+        } catch (VersionError | IllegalArgumentException err) {
+            return INVALID;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.github.pawelj_pl.semver_j;
+
+/**
+ * Access to strings as bytes, so they can be scanned by byte based scanners. Java 8 variant, where encoding is a loop
+ * over characters and costs more than scalar scanning; multi-release JAR contains variant for newer JDKs.
+ */
+final class StringBytes {
+
+    private StringBytes() {
+    }
+
+    /**
+     * Encodes value as Latin-1 only if it is cheaper than scanning characters one by one on running JDK.
+     *
+     * @return bytes of the value with characters outside of Latin-1 replaced by {@code '?'}, or null if encoding is not
+     * cheap and callers should use {@link CharSequence} based scanners instead
+     */
+    static byte[] latin1IfCheap(String value) {
+        return null;
+    }
+}
@@ -0,0 +1,147 @@
+package com.github.pawelj_pl.semver_j;
+
+import com.github.pawelj_pl.semver_j.exceptions.VersionError;
+
+import java.util.EnumSet;
+
+/**
+ * Single pass, regex-free parser normalizing common non-strict version forms.
+ */
+final class VersionCoercer {
+
+    private VersionCoercer() {
+    }
+
+    static CoercionResult coerce(CharSequence version, CoercionOptions options) {
+        EnumSet<Coercion> applied = EnumSet.noneOf(Coercion.class);
+        int position = 0;
+        int end = version.length();
+        while (position < end && Character.isWhitespace(version.charAt(position))) {
+            position++;
+        }
+        while (end > position && Character.isWhitespace(version.charAt(end - 1))) {
+            end--;
+        }
+        if (position > 0 || end < version.length()) {
+            apply(Coercion.TRIMMED_WHITESPACE, applied, options, version);
+        }
+
+        int prefixEnd = prefixEnd(version, position, end);
+        if (prefixEnd > position) {
+            apply(Coercion.STRIPPED_PREFIX, applied, options, version);
+            position = prefixEnd;
+        }
+
+        int[] numbers = new int[3];
+        int componentsCount = 0;
+        while (componentsCount < 3) {
+            int numberEnd = VersionValidator.scanNumeric(version, position, end);
+            if (numberEnd < 0) {
+                throw notValid(version);
+            }
+            if (numberEnd - position > 1 && version.charAt(position) == '0') {
+                apply(Coercion.STRIPPED_LEADING_ZEROS, applied, options, version);
+            }
+            numbers[componentsCount++] = parseNumber(version, position, numberEnd);
+            position = numberEnd;
+            if (!isDotFollowedByDigit(version, position, end)) {
+                break;
+            }
+            if (componentsCount < 3) {
+                position++;
+            }
+        }
+        if (componentsCount < 3) {
+            apply(Coercion.FILLED_MISSING_COMPONENTS, applied, options, version);
+        }
+
+        int extraStart = position + 1;
+        while (isDotFollowedByDigit(version, position, end)) {
+            position = skipDigits(version, position + 1, end);
+        }
+        String extraComponents = null;
+        if (position > extraStart) {
+            apply(Coercion.MOVED_EXTRA_COMPONENTS_TO_BUILD_METADATA, applied, options, version);
+            extraComponents = version.subSequence(extraStart, position).toString();
+        }
+
+        String preRelease = null;
+        if (position < end && version.charAt(position) == '-') {
+            int preReleaseEnd = VersionValidator.scanIdentifiers(version, position + 1, end, false);
+            if (preReleaseEnd < 0) {
+                throw notValid(version);
+            }
+            preRelease = version.subSequence(position + 1, preReleaseEnd).toString();
+            position = preReleaseEnd;
+        }
+        String buildMetadata = null;
+        if (position < end && version.charAt(position) == '+') {
+            int buildMetadataEnd = VersionValidator.scanIdentifiers(version, position + 1, end, true);
+            if (buildMetadataEnd < 0) {
+                throw notValid(version);
+            }
+            buildMetadata = version.subSequence(position + 1, buildMetadataEnd).toString();
+            position = buildMetadataEnd;
+        }
+        if (position != end) {
+            throw notValid(version);
+        }
+        if (extraComponents != null) {
+            buildMetadata = buildMetadata == null ? extraComponents : extraComponents + "." + buildMetadata;
+        }
+        return new CoercionResult(new SemanticVersion(numbers[0], numbers[1], numbers[2], preRelease, buildMetadata),
+                                  applied);
+    }
+
+    private static void apply(Coercion coercion, EnumSet<Coercion> applied, CoercionOptions options,
+                              CharSequence version) {
+        if (!options.isAllowed(coercion)) {
+            throw new VersionError(String.format("%s is not valid semver (%s not allowed)", version, coercion));
+        }
+        applied.add(coercion);
+    }
+
+    /**
+     * Skips single prefix: {@code v}, {@code V}, {@code =}, {@code =v} or {@code =V}.
+     */
+    private static int prefixEnd(CharSequence version, int position, int end) {
+        if (position < end && version.charAt(position) == '=') {
+            position++;
+        }
+        if (position < end && (version.charAt(position) == 'v' || version.charAt(position) == 'V')) {
+            position++;
+        }
+        return position;
+    }
+
+    private static boolean isDotFollowedByDigit(CharSequence version, int position, int end) {
+        if (position + 1 >= end || version.charAt(position) != '.') {
+            return false;
+        }
+        char next = version.charAt(position + 1);
+        return next >= '0' && next <= '9';
+    }
+
+    /**
+     * Extra components only become build metadata, so unlike major, minor and patch they have no int limit (e.g.
+     * timestamps like {@code 1.2.3.20190101120000}).
+     */
+    private static int skipDigits(CharSequence version, int position, int end) {
+        while (position < end && version.charAt(position) >= '0' && version.charAt(position) <= '9') {
+            position++;
+        }
+        return position;
+    }
+
+    private static int parseNumber(CharSequence version, int from, int to) {
+        int number = 0;
+        for (int i = from; i < to; i++) {
+            number = number * 10 + (version.charAt(i) - '0');
+        }
+        return number;
+    }
+
+    private static VersionError notValid(CharSequence version) {
+        return new VersionError(String.format("%s is not valid semver", version));
+    }
+}
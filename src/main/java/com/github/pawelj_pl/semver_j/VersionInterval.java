@@ -0,0 +1,176 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Non empty, contiguous range of versions ordered by precedence. Missing bound means the range is unbounded on that
+ * side. Bounds never contain build metadata, as it doesn't affect precedence.
+ * <p>
+ * Instances are created by {@link VersionRangeSet}.
+ */
+public final class VersionInterval {
+    private final SemanticVersion lower;
+
+    private final boolean lowerInclusive;
+
+    private final SemanticVersion upper;
+
+    private final boolean upperInclusive;
+
+    VersionInterval(SemanticVersion lower, boolean lowerInclusive, SemanticVersion upper, boolean upperInclusive) {
+        this.lower = withoutBuildMetadata(lower);
+        this.lowerInclusive = lower != null && lowerInclusive;
+        this.upper = withoutBuildMetadata(upper);
+        this.upperInclusive = upper != null && upperInclusive;
+    }
+
+    public Optional<SemanticVersion> getLower() {
+        return Optional.ofNullable(lower);
+    }
+
+    public boolean isLowerInclusive() {
+        return lowerInclusive;
+    }
+
+    public Optional<SemanticVersion> getUpper() {
+        return Optional.ofNullable(upper);
+    }
+
+    public boolean isUpperInclusive() {
+        return upperInclusive;
+    }
+
+    public boolean contains(SemanticVersion version) {
+        return isAtOrAboveLower(version) && isAtOrBelowUpper(version);
+    }
+
+    boolean isAtOrAboveLower(SemanticVersion version) {
+        if (lower == null) {
+            return true;
+        }
+        int result = lower.compareTo(version);
+        return result < 0 || (result == 0 && lowerInclusive);
+    }
+
+    boolean isAtOrBelowUpper(SemanticVersion version) {
+        if (upper == null) {
+            return true;
+        }
+        int result = upper.compareTo(version);
+        return result > 0 || (result == 0 && upperInclusive);
+    }
+
+    /**
+     * Orders lower bounds, where unbounded is the lowest and inclusive bound is lower than exclusive one.
+     */
+    static int compareLowerBounds(VersionInterval first, VersionInterval second) {
+        if (first.lower == null || second.lower == null) {
+            return Boolean.compare(second.lower == null, first.lower == null);
+        }
+        int result = first.lower.compareTo(second.lower);
+        if (result != 0) {
+            return result;
+        }
+        return Boolean.compare(second.lowerInclusive, first.lowerInclusive);
+    }
+
+    /**
+     * Orders upper bounds, where unbounded is the highest and exclusive bound is lower than inclusive one.
+     */
+    static int compareUpperBounds(VersionInterval first, VersionInterval second) {
+        if (first.upper == null || second.upper == null) {
+            return Boolean.compare(first.upper == null, second.upper == null);
+        }
+        int result = first.upper.compareTo(second.upper);
+        if (result != 0) {
+            return result;
+        }
+        return Boolean.compare(first.upperInclusive, second.upperInclusive);
+    }
+
+    /**
+     * Checks whether interval starting earlier overlaps or is directly adjacent to the next one, so their union is
+     * contiguous.
+     */
+    static boolean isConnected(VersionInterval earlier, VersionInterval next) {
+        if (earlier.upper == null || next.lower == null) {
+            return true;
+        }
+        int result = earlier.upper.compareTo(next.lower);
+        return result > 0 || (result == 0 && (earlier.upperInclusive || next.lowerInclusive));
+    }
+
+    static boolean isEmpty(SemanticVersion lower, boolean lowerInclusive, SemanticVersion upper,
+                           boolean upperInclusive) {
+        if (lower == null || upper == null) {
+            return false;
+        }
+        int result = lower.compareTo(upper);
+        return result > 0 || (result == 0 && !(lowerInclusive && upperInclusive));
+    }
+
+    /**
+     * @return common part of both intervals or null if they are disjoint
+     */
+    static VersionInterval intersection(VersionInterval first, VersionInterval second) {
+        VersionInterval lowerSource = compareLowerBounds(first, second) >= 0 ? first : second;
+        VersionInterval upperSource = compareUpperBounds(first, second) <= 0 ? first : second;
+        if (isEmpty(lowerSource.lower, lowerSource.lowerInclusive, upperSource.upper, upperSource.upperInclusive)) {
+            return null;
+        }
+        return new VersionInterval(lowerSource.lower, lowerSource.lowerInclusive, upperSource.upper,
+                                   upperSource.upperInclusive);
+    }
+
+    /**
+     * @return the smallest interval covering both provided ones
+     */
+    static VersionInterval span(VersionInterval first, VersionInterval second) {
+        VersionInterval lowerSource = compareLowerBounds(first, second) <= 0 ? first : second;
+        VersionInterval upperSource = compareUpperBounds(first, second) >= 0 ? first : second;
+        return new VersionInterval(lowerSource.lower, lowerSource.lowerInclusive, upperSource.upper,
+                                   upperSource.upperInclusive);
+    }
+
+    /**
+     * @return whether the first interval contains the second one
+     */
+    static boolean encloses(VersionInterval first, VersionInterval second) {
+        return compareLowerBounds(first, second) <= 0 && compareUpperBounds(first, second) >= 0;
+    }
+
+    private static SemanticVersion withoutBuildMetadata(SemanticVersion version) {
+        if (version == null || !version.getBuildMetadata().isPresent()) {
+            return version;
+        }
+        return version.newBuildMetadata(null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VersionInterval)) return false;
+        VersionInterval that = (VersionInterval) o;
+        return lowerInclusive == that.lowerInclusive &&
+                upperInclusive == that.upperInclusive &&
+                Objects.equals(lower, that.lower) &&
+                Objects.equals(upper, that.upper);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(lower, lowerInclusive, upper, upperInclusive);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder();
+        stringBuilder.append(lowerInclusive ? "[" : "(");
+        stringBuilder.append(lower == null ? "*" : lower.toString());
+        stringBuilder.append(", ");
+        stringBuilder.append(upper == null ? "*" : upper.toString());
+        stringBuilder.append(upperInclusive ? "]" : ")");
+        return stringBuilder.toString();
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Single pass, regex-free parsers for canonical input, built on the scanners of {@link VersionValidator}. Byte input
+ * is scanned eight bytes at a time, {@link CharSequence} input by the scalar scanners, and String input by either of
+ * them, depending on the JDK. All of them return null for anything else, so callers decide how to report errors.
+ */
+final class VersionParser {
+    private VersionParser() {
+    }
+
+    /**
+     * Parses ASCII encoded version from bytes in range [offset, offset + length).
+     *
+     * @return parsed version or null if {@link VersionValidator#isValidVersion(byte[], int, int)} would return false
+     */
+    static SemanticVersion parse(byte[] version, int offset, int length) {
+        VersionValidator.checkBounds(version, offset, length);
+        int end = offset + length;
+        int[] numbers = new int[3];
+        int position = offset;
+        for (int i = 0; i < 3; i++) {
+            int numberEnd = VersionValidator.scanNumeric(version, position, end);
+            if (numberEnd < 0) {
+                return null;
+            }
+            numbers[i] = toInt(version, position, numberEnd);
+            position = numberEnd;
+            if (i < 2) {
+                if (position == end || version[position] != '.') {
+                    return null;
+                }
+                position++;
+            }
+        }
+        String preRelease = null;
+        if (position < end && version[position] == '-') {
+            int preReleaseEnd = VersionValidator.scanIdentifiers(version, position + 1, end, false);
+            if (preReleaseEnd < 0) {
+                return null;
+            }
+            preRelease = new String(version, position + 1, preReleaseEnd - position - 1, StandardCharsets.US_ASCII);
+            position = preReleaseEnd;
+        }
+        String buildMetadata = null;
+        if (position < end && version[position] == '+') {
+            int buildMetadataEnd = VersionValidator.scanIdentifiers(version, position + 1, end, true);
+            if (buildMetadataEnd < 0) {
+                return null;
+            }
+            buildMetadata = new String(version, position + 1, buildMetadataEnd - position - 1,
+                                       StandardCharsets.US_ASCII);
+            position = buildMetadataEnd;
+        }
+        if (position != end) {
+            return null;
+        }
+        return new SemanticVersion(numbers[0], numbers[1], numbers[2], preRelease, buildMetadata);
+    }
+
+    /**
+     * Parses whole provided value, scanning it as bytes if {@link StringBytes} makes it cheap on running JDK. Neither
+     * {@code '?'} nor non ASCII bytes are accepted by scanners, so both ways accept the same values.
+     *
+     * @return parsed version or null if value is not canonical semantic version
+     */
+    static SemanticVersion parse(String version) {
+        byte[] bytes = StringBytes.latin1IfCheap(version);
+        return bytes == null ? parse((CharSequence) version) : parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses whole provided value.
+     *
+     * @return parsed version or null if value is not canonical semantic version
+     */
+    static SemanticVersion parse(CharSequence version) {
+        int end = version.length();
+        int[] numbers = new int[3];
+        int position = 0;
+        for (int i = 0; i < 3; i++) {
+            int numberEnd = VersionValidator.scanNumeric(version, position, end);
+            if (numberEnd < 0) {
+                return null;
+            }
+            numbers[i] = toInt(version, position, numberEnd);
+            position = numberEnd;
+            if (i < 2) {
+                if (position == end || version.charAt(position) != '.') {
+                    return null;
+                }
+                position++;
+            }
+        }
+        String preRelease = null;
+        if (position < end && version.charAt(position) == '-') {
+            int preReleaseEnd = VersionValidator.scanIdentifiers(version, position + 1, end, false);
+            if (preReleaseEnd < 0) {
+                return null;
+            }
+            preRelease = version.subSequence(position + 1, preReleaseEnd).toString();
+            position = preReleaseEnd;
+        }
+        String buildMetadata = null;
+        if (position < end && version.charAt(position) == '+') {
+            int buildMetadataEnd = VersionValidator.scanIdentifiers(version, position + 1, end, true);
+            if (buildMetadataEnd < 0) {
+                return null;
+            }
+            buildMetadata = version.subSequence(position + 1, buildMetadataEnd).toString();
+            position = buildMetadataEnd;
+        }
+        if (position != end) {
+            return null;
+        }
+        return new SemanticVersion(numbers[0], numbers[1], numbers[2], preRelease, buildMetadata);
+    }
+
+    /**
+     * Converts digits already checked by {@code scanNumeric}, so the value fits in int.
+     */
+    private static int toInt(byte[] value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value[i] - '0');
+        }
+        return result;
+    }
+
+    private static int toInt(CharSequence value, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            result = result * 10 + (value.charAt(i) - '0');
+        }
+        return result;
+    }
+}
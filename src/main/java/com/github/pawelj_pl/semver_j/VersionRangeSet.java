@@ -0,0 +1,264 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable set of versions, ordered by precedence, represented as a normalized list of intervals: sorted, pairwise
+ * disjoint and not adjacent. Thanks to normalization, set operations are linear merges of interval lists, empty set is
+ * always represented by empty list and equal sets have equal representations.
+ */
+public final class VersionRangeSet {
+    private static final VersionRangeSet EMPTY = new VersionRangeSet(new VersionInterval[0]);
+
+    private static final VersionRangeSet ALL =
+            new VersionRangeSet(new VersionInterval[]{new VersionInterval(null, false, null, false)});
+
+    private final VersionInterval[] intervals;
+
+    private VersionRangeSet(VersionInterval[] intervals) {
+        this.intervals = intervals;
+    }
+
+    public static VersionRangeSet empty() {
+        return EMPTY;
+    }
+
+    public static VersionRangeSet all() {
+        return ALL;
+    }
+
+    /**
+     * Creates set of versions between provided bounds. Null bound means the set is unbounded on that side.
+     *
+     * @return set containing single interval or empty set if lower bound is above upper one
+     */
+    public static VersionRangeSet between(SemanticVersion lower, boolean lowerInclusive, SemanticVersion upper,
+                                          boolean upperInclusive) {
+        if (VersionInterval.isEmpty(lower, lowerInclusive, upper, upperInclusive)) {
+            return EMPTY;
+        }
+        return new VersionRangeSet(new VersionInterval[]{
+                new VersionInterval(lower, lowerInclusive, upper, upperInclusive)});
+    }
+
+    public static VersionRangeSet exactly(SemanticVersion version) {
+        return between(requireVersion(version), true, version, true);
+    }
+
+    public static VersionRangeSet atLeast(SemanticVersion version) {
+        return between(requireVersion(version), true, null, false);
+    }
+
+    public static VersionRangeSet greaterThan(SemanticVersion version) {
+        return between(requireVersion(version), false, null, false);
+    }
+
+    public static VersionRangeSet atMost(SemanticVersion version) {
+        return between(null, false, requireVersion(version), true);
+    }
+
+    public static VersionRangeSet lessThan(SemanticVersion version) {
+        return between(null, false, requireVersion(version), false);
+    }
+
+    /**
+     * Intersects all provided sets. Each step is linear in the size of its operands and the intermediate result can
+     * only shrink, so combining many constraints stays near-linear.
+     */
+    public static VersionRangeSet intersectAll(Collection<VersionRangeSet> sets) {
+        VersionRangeSet result = ALL;
+        for (VersionRangeSet set : sets) {
+            result = result.intersect(set);
+            if (result.isEmpty()) {
+                return EMPTY;
+            }
+        }
+        return result;
+    }
+
+    public static VersionRangeSet unionAll(Collection<VersionRangeSet> sets) {
+        VersionRangeSet result = EMPTY;
+        for (VersionRangeSet set : sets) {
+            result = result.union(set);
+        }
+        return result;
+    }
+
+    public List<VersionInterval> getIntervals() {
+        return Collections.unmodifiableList(Arrays.asList(intervals));
+    }
+
+    public boolean isEmpty() {
+        return intervals.length == 0;
+    }
+
+    public VersionRangeSet intersect(VersionRangeSet other) {
+        List<VersionInterval> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < intervals.length && j < other.intervals.length) {
+            VersionInterval common = VersionInterval.intersection(intervals[i], other.intervals[j]);
+            if (common != null) {
+                result.add(common);
+            }
+            if (VersionInterval.compareUpperBounds(intervals[i], other.intervals[j]) <= 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return fromNormalized(result);
+    }
+
+    public VersionRangeSet union(VersionRangeSet other) {
+        List<VersionInterval> result = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < intervals.length || j < other.intervals.length) {
+            VersionInterval next;
+            if (j == other.intervals.length ||
+                    (i < intervals.length && VersionInterval.compareLowerBounds(intervals[i], other.intervals[j]) <= 0)) {
+                next = intervals[i++];
+            } else {
+                next = other.intervals[j++];
+            }
+            appendCoalescing(result, next);
+        }
+        return fromNormalized(result);
+    }
+
+    public VersionRangeSet complement() {
+        if (isEmpty()) {
+            return ALL;
+        }
+        List<VersionInterval> result = new ArrayList<>();
+        SemanticVersion gapLower = null;
+        boolean gapLowerInclusive = false;
+        for (VersionInterval interval : intervals) {
+            if (interval.getLower().isPresent()) {
+                result.add(new VersionInterval(gapLower, gapLowerInclusive, interval.getLower().get(),
+                                               !interval.isLowerInclusive()));
+            }
+            gapLower = interval.getUpper().orElse(null);
+            gapLowerInclusive = !interval.isUpperInclusive();
+            if (gapLower == null) {
+                return fromNormalized(result);
+            }
+        }
+        result.add(new VersionInterval(gapLower, gapLowerInclusive, null, false));
+        return fromNormalized(result);
+    }
+
+    public VersionRangeSet difference(VersionRangeSet other) {
+        return intersect(other.complement());
+    }
+
+    /**
+     * @return whether every version from other set belongs to this set
+     */
+    public boolean subsumes(VersionRangeSet other) {
+        int i = 0;
+        for (VersionInterval interval : other.intervals) {
+            while (i + 1 < intervals.length && VersionInterval.compareLowerBounds(intervals[i + 1], interval) <= 0) {
+                i++;
+            }
+            if (i == intervals.length || !VersionInterval.encloses(intervals[i], interval)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds interval which may contain provided version using binary search.
+     */
+    public boolean contains(SemanticVersion version) {
+        int low = 0;
+        int high = intervals.length - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            VersionInterval interval = intervals[middle];
+            if (!interval.isAtOrAboveLower(version)) {
+                high = middle - 1;
+            } else if (!interval.isAtOrBelowUpper(version)) {
+                low = middle + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Selects versions belonging to this set in a single merge pass.
+     *
+     * @param sortedVersions versions sorted in ascending order of precedence
+     * @return matching versions in the same order
+     */
+    public List<SemanticVersion> filter(List<SemanticVersion> sortedVersions) {
+        List<SemanticVersion> result = new ArrayList<>();
+        int i = 0;
+        Iterator<SemanticVersion> iterator = sortedVersions.iterator();
+        while (iterator.hasNext() && i < intervals.length) {
+            SemanticVersion version = iterator.next();
+            while (i < intervals.length && !intervals[i].isAtOrBelowUpper(version)) {
+                i++;
+            }
+            if (i < intervals.length && intervals[i].isAtOrAboveLower(version)) {
+                result.add(version);
+            }
+        }
+        return result;
+    }
+
+    private static void appendCoalescing(List<VersionInterval> result, VersionInterval next) {
+        int lastIndex = result.size() - 1;
+        if (lastIndex >= 0 && VersionInterval.isConnected(result.get(lastIndex), next)) {
+            result.set(lastIndex, VersionInterval.span(result.get(lastIndex), next));
+        } else {
+            result.add(next);
+        }
+    }
+
+    private static VersionRangeSet fromNormalized(List<VersionInterval> intervals) {
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+        return new VersionRangeSet(intervals.toArray(new VersionInterval[0]));
+    }
+
+    private static SemanticVersion requireVersion(SemanticVersion version) {
+        return Objects.requireNonNull(version, "Version can't be null");
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof VersionRangeSet)) return false;
+        VersionRangeSet that = (VersionRangeSet) o;
+        return Arrays.equals(intervals, that.intervals);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(intervals);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder stringBuilder = new StringBuilder("{");
+        for (int i = 0; i < intervals.length; i++) {
+            if (i > 0) {
+                stringBuilder.append(", ");
+            }
+            stringBuilder.append(intervals[i]);
+        }
+        return stringBuilder.append("}").toString();
+    }
+}
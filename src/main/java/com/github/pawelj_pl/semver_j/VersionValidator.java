@@ -0,0 +1,219 @@
+package com.github.pawelj_pl.semver_j;
+
+/**
+ * Regex-free validation of version strings.
+ * <p>
+ * Dot separated identifier lists (pre-release and build metadata) are checked eight bytes at a time using SWAR
+ * (SIMD within a register) arithmetic on {@code long} words when the input is a byte array; the remaining tail and
+ * {@link CharSequence} input are checked by an equivalent scalar loop. Accepted inputs are exactly the ones matched by
+ * {@link SemanticVersion#WITHOUT_LEADING_ZEROS_PATTERN} and {@link SemanticVersion#WITH_LEADING_ZEROS_PATTERN}.
+ */
+final class VersionValidator {
+    private static final long ONES = 0x0101010101010101L;
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private static final long CASE_BITS = 0x2020202020202020L;
+
+    private VersionValidator() {
+    }
+
+    /**
+     * Checks whether bytes in range [offset, offset + length) contain valid semantic version, i.e. the one which
+     * would be accepted by {@link SemanticVersion#fromString(String)}, except that trailing line terminator tolerated
+     * by its pattern is rejected.
+     */
+    static boolean isValidVersion(byte[] version, int offset, int length) {
+        checkBounds(version, offset, length);
+        int end = offset + length;
+        int position = offset;
+        for (int i = 0; i < 3; i++) {
+            position = scanNumeric(version, position, end);
+            if (position < 0) {
+                return false;
+            }
+            if (i < 2) {
+                if (position == end || version[position] != '.') {
+                    return false;
+                }
+                position++;
+            }
+        }
+        if (position < end && version[position] == '-') {
+            position = scanIdentifiers(version, position + 1, end, false);
+            if (position < 0) {
+                return false;
+            }
+        }
+        if (position < end && version[position] == '+') {
+            position = scanIdentifiers(version, position + 1, end, true);
+            if (position < 0) {
+                return false;
+            }
+        }
+        return position == end;
+    }
+
+    /**
+     * Checks whether whole provided value is a dot separated list of identifiers.
+     */
+    static boolean matchesIdentifiers(CharSequence value, boolean allowLeadingZeros) {
+        return scanIdentifiers(value, 0, value.length(), allowLeadingZeros) == value.length();
+    }
+
+    /**
+     * Scans dot separated identifiers starting at {@code from}.
+     *
+     * @return index of the first byte outside of {@code [A-Za-z0-9.-]} (or {@code to} if there is no such byte), or
+     * -1 when identifiers preceding that index are malformed (empty list, empty identifier or forbidden leading zero)
+     */
+    static int scanIdentifiers(byte[] value, int from, int to, boolean allowLeadingZeros) {
+        int position = from;
+        boolean afterDot = true;
+        while (to - position >= Long.BYTES) {
+            long word = ByteWords.readLongLittleEndian(value, position);
+            long allowed = allowedBytes(word);
+            int validCount = allowed == HIGH_BITS ? Long.BYTES : Long.numberOfTrailingZeros(~allowed & HIGH_BITS) >>> 3;
+            long limit = validCount == Long.BYTES ? -1L : (1L << (validCount << 3)) - 1;
+            long dots = equalBytes(word, '.') & limit;
+            long starts = ((dots << 8) | (afterDot ? 0x80L : 0L)) & limit;
+            if ((starts & dots) != 0) {
+                return -1;
+            }
+            if (!allowLeadingZeros && (starts & equalBytes(word, '0')) != 0) {
+                return -1;
+            }
+            if (validCount > 0) {
+                afterDot = (dots >>> ((validCount << 3) - 1) & 1L) != 0;
+            }
+            position += validCount;
+            if (validCount < Long.BYTES) {
+                return afterDot ? -1 : position;
+            }
+        }
+        for (; position < to; position++) {
+            byte current = value[position];
+            if (current == '.') {
+                if (afterDot) {
+                    return -1;
+                }
+                afterDot = true;
+            } else if (isIdentifierCharacter(current)) {
+                if (afterDot && current == '0' && !allowLeadingZeros) {
+                    return -1;
+                }
+                afterDot = false;
+            } else {
+                break;
+            }
+        }
+        return afterDot ? -1 : position;
+    }
+
+    /**
+     * Scalar counterpart of {@link #scanIdentifiers(byte[], int, int, boolean)}.
+     */
+    static int scanIdentifiers(CharSequence value, int from, int to, boolean allowLeadingZeros) {
+        int position = from;
+        boolean afterDot = true;
+        for (; position < to; position++) {
+            char current = value.charAt(position);
+            if (current == '.') {
+                if (afterDot) {
+                    return -1;
+                }
+                afterDot = true;
+            } else if (isIdentifierCharacter(current)) {
+                if (afterDot && current == '0' && !allowLeadingZeros) {
+                    return -1;
+                }
+                afterDot = false;
+            } else {
+                break;
+            }
+        }
+        return afterDot ? -1 : position;
+    }
+
+    /**
+     * Scans non empty sequence of ASCII digits which fits in non negative int.
+     *
+     * @return index of the first non digit character or -1 if there are no digits or the value overflows
+     */
+    static int scanNumeric(CharSequence value, int from, int to) {
+        int position = from;
+        long number = 0;
+        for (; position < to; position++) {
+            char current = value.charAt(position);
+            if (current < '0' || current > '9') {
+                break;
+            }
+            number = number * 10 + (current - '0');
+            if (number > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return position == from ? -1 : position;
+    }
+
+    /**
+     * Byte counterpart of {@link #scanNumeric(CharSequence, int, int)}.
+     */
+    static int scanNumeric(byte[] value, int from, int to) {
+        int position = from;
+        long number = 0;
+        for (; position < to; position++) {
+            byte current = value[position];
+            if (current < '0' || current > '9') {
+                break;
+            }
+            number = number * 10 + (current - '0');
+            if (number > Integer.MAX_VALUE) {
+                return -1;
+            }
+        }
+        return position == from ? -1 : position;
+    }
+
+    private static boolean isIdentifierCharacter(int character) {
+        return (character >= 'a' && character <= 'z') ||
+                (character >= 'A' && character <= 'Z') ||
+                (character >= '0' && character <= '9') ||
+                character == '-';
+    }
+
+    /**
+     * Sets high bit of every byte which belongs to {@code [A-Za-z0-9.-]}.
+     */
+    private static long allowedBytes(long word) {
+        long folded = word | CASE_BITS;
+        long allowed = inRange(word, '-', '.') | inRange(word, '0', '9') | inRange(folded, 'a', 'z');
+        return allowed & ~word & HIGH_BITS;
+    }
+
+    private static long equalBytes(long word, int value) {
+        return inRange(word, value, value);
+    }
+
+    /**
+     * Sets high bit of every ASCII byte with value in range [low, high]. Result for non ASCII bytes is undefined.
+     */
+    private static long inRange(long word, int low, int high) {
+        return atLeast(word, low) & ~atLeast(word, high + 1) & HIGH_BITS;
+    }
+
+    /**
+     * Sets high bit of every ASCII byte with value greater than or equal to {@code value} (which must not exceed 0x80).
+     * Setting high bit of each byte before subtraction guarantees that no borrow crosses byte boundaries.
+     */
+    private static long atLeast(long word, int value) {
+        return ((word | HIGH_BITS) - value * ONES) & HIGH_BITS;
+    }
+
+    static void checkBounds(byte[] bytes, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > bytes.length - length) {
+            throw new IndexOutOfBoundsException(String.format("Range [%d, %d + %d) out of bounds for length %d",
+                                                              offset, offset, length, bytes.length));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * Reads of multi-byte words from byte arrays. Variant for newer JDKs using byte array view {@link VarHandle}, which
+ * JIT compiles to a single (possibly unaligned) load.
+ */
+final class ByteWords {
+    private static final VarHandle LONG_LITTLE_ENDIAN =
+            MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private ByteWords() {
+    }
+
+    /**
+     * Reads eight bytes starting at {@code offset} as little endian long.
+     */
+    static long readLongLittleEndian(byte[] bytes, int offset) {
+        return (long) LONG_LITTLE_ENDIAN.get(bytes, offset);
+    }
+}
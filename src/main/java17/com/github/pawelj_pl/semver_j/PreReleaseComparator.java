@@ -0,0 +1,42 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Precedence of pre-release parts. Variant for newer JDKs, which skips common prefix of long pre-release parts with
+ * vectorized {@link Arrays#mismatch(byte[], byte[])} and walks identifiers only from the one containing the first
+ * difference. Compact strings make Latin-1 encoding a plain copy, and pre-release parts of {@link SemanticVersion} are
+ * ASCII, so encoding can't hide a difference.
+ */
+final class PreReleaseComparator {
+    /**
+     * Below this length copying both parts costs more than walking their identifiers.
+     */
+    private static final int MISMATCH_THRESHOLD = 8;
+
+    private PreReleaseComparator() {
+    }
+
+    /**
+     * Compares pre-release parts, where null (no pre-release) has higher precedence than any pre-release.
+     */
+    static int compare(String first, String second) {
+        if (first == null) {
+            return second == null ? 0 : 1;
+        }
+        if (second == null) {
+            return -1;
+        }
+        if (first.equals(second)) {
+            return 0;
+        }
+        int start = 0;
+        if (first.length() >= MISMATCH_THRESHOLD && second.length() >= MISMATCH_THRESHOLD) {
+            int mismatch = Arrays.mismatch(first.getBytes(StandardCharsets.ISO_8859_1),
+                                           second.getBytes(StandardCharsets.ISO_8859_1));
+            start = first.lastIndexOf('.', mismatch - 1) + 1;
+        }
+        return PreReleaseIdentifiers.compare(first, second, start);
+    }
+}
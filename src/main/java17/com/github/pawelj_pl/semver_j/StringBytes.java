@@ -0,0 +1,23 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Access to strings as bytes, so they can be scanned by byte based scanners. Variant for newer JDKs, where compact
+ * strings keep Latin-1 content as bytes and encoding it is a plain array copy.
+ */
+final class StringBytes {
+
+    private StringBytes() {
+    }
+
+    /**
+     * Encodes value as Latin-1 only if it is cheaper than scanning characters one by one on running JDK.
+     *
+     * @return bytes of the value with characters outside of Latin-1 replaced by {@code '?'}, or null if encoding is not
+     * cheap and callers should use {@link CharSequence} based scanners instead
+     */
+    static byte[] latin1IfCheap(String value) {
+        return value.getBytes(StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteWordsTest {
+
+    @Test
+    public void shouldReadLittleEndianLongAtEveryOffset() {
+        //given
+        Random random = new Random(28L);
+        byte[] bytes = new byte[64];
+        random.nextBytes(bytes);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+
+        //when
+        //then
+        for (int offset = 0; offset <= bytes.length - Long.BYTES; offset++) {
+            assertThat(ByteWords.readLongLittleEndian(bytes, offset)).isEqualTo(buffer.getLong(offset));
+        }
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailWhenWordExceedsArray() {
+        //given
+        byte[] bytes = new byte[10];
+
+        //when
+        ByteWords.readLongLittleEndian(bytes, 3);
+    }
+}
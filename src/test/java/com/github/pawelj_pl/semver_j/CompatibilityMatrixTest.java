@@ -0,0 +1,104 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CompatibilityMatrixTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void shouldComputeRunsOfCompatibleVersions() {
+        //given
+        List<SemanticVersion> rows = Arrays.asList(SemanticVersion.fromString("1.0.0"),
+                                                   SemanticVersion.fromString("2.0.0"));
+        List<SemanticVersion> columns = Arrays.asList(SemanticVersion.fromString("0.9.0"),
+                                                      SemanticVersion.fromString("1.0.0-rc.1"),
+                                                      SemanticVersion.fromString("1.0.0"),
+                                                      SemanticVersion.fromString("1.5.0"),
+                                                      SemanticVersion.fromString("2.0.0"));
+
+        //when
+        CompatibilityMatrix result = CompatibilityMatrix.compute(rows, columns, CompatibilityMatrixTest::caret);
+
+        //then
+        assertThat(result.getRowCount()).isEqualTo(2);
+        assertThat(result.getColumnCount()).isEqualTo(5);
+        assertThat(result.getRuns(0)).containsExactly(2, 4);
+        assertThat(result.getRuns(1)).containsExactly(4, 5);
+        assertThat(result.isCompatible(0, 3)).isTrue();
+        assertThat(result.isCompatible(0, 1)).isFalse();
+        assertThat(result.getCompatibleCount(0)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldAgreeWithPairwiseChecks() {
+        //given
+        Random random = new Random(31L);
+        List<SemanticVersion> rows = randomSortedVersions(random, 3_000);
+        List<SemanticVersion> columns = randomSortedVersions(random, 500);
+        Function<SemanticVersion, VersionRangeSet> constraint = version -> {
+            VersionRangeSet caret = caret(version);
+            return version.getPatch() % 3 == 0 ? caret.union(VersionRangeSet.lessThan(new SemanticVersion(1, 0, 0)))
+                                               : caret;
+        };
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        //when
+        CompatibilityMatrix result = CompatibilityMatrix.compute(rows, columns, constraint, pool);
+        pool.shutdown();
+
+        //then
+        for (int row = 0; row < rows.size(); row++) {
+            VersionRangeSet expected = constraint.apply(rows.get(row));
+            int count = 0;
+            for (int column = 0; column < columns.size(); column++) {
+                boolean compatible = expected.contains(columns.get(column));
+                assertThat(result.isCompatible(row, column)).as("%s, %s", rows.get(row), columns.get(column))
+                                                            .isEqualTo(compatible);
+                count += compatible ? 1 : 0;
+            }
+            assertThat(result.getCompatibleCount(row)).isEqualTo(count);
+        }
+    }
+
+    @Test
+    public void shouldRejectUnsortedVersions() {
+        //given
+        List<SemanticVersion> rows = Arrays.asList(SemanticVersion.fromString("2.0.0"),
+                                                   SemanticVersion.fromString("1.0.0"));
+
+        //then
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Versions are not sorted: 2.0.0 precedes 1.0.0");
+
+        //when
+        CompatibilityMatrix.compute(rows, Collections.emptyList(), CompatibilityMatrixTest::caret);
+    }
+
+    private static VersionRangeSet caret(SemanticVersion version) {
+        return VersionRangeSet.between(version, true, version.incrementMajor(), false);
+    }
+
+    private static List<SemanticVersion> randomSortedVersions(Random random, int count) {
+        List<SemanticVersion> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            String preRelease = random.nextInt(4) == 0 ? "rc." + (1 + random.nextInt(3)) : null;
+            result.add(new SemanticVersion(random.nextInt(5), random.nextInt(10), random.nextInt(10), preRelease, null));
+        }
+        Collections.sort(result);
+        return result;
+    }
+}
@@ -0,0 +1,135 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares implementations registered in {@link SemverImplementations} with {@link ReferenceSemver} on randomly
+ * generated versions. Number of cases and seed can be set with {@code semver.differential.cases} and
+ * {@code semver.differential.seed} system properties, e.g. to run millions of cases in nightly build.
+ */
+public class DifferentialTest {
+    private static final int CASES = Integer.getInteger("semver.differential.cases", 20_000);
+
+    private static final long SEED = Long.getLong("semver.differential.seed", 30L);
+
+    @Test
+    public void parsersShouldAgreeWithReference() {
+        //given
+        VersionGenerator generator = new VersionGenerator(new Random(SEED));
+
+        //when
+        //then
+        for (int i = 0; i < CASES; i++) {
+            String version = generator.any();
+            ReferenceSemver expected = ReferenceSemver.parse(version, ReferenceSemver.Dialect.LIBRARY);
+            for (Map.Entry<String, Function<String, SemanticVersion>> parser : SemverImplementations.PARSERS.entrySet()) {
+                SemanticVersion result = parseOrNull(parser.getValue(), version);
+                assertThat(result).as("%s(%s), seed %d", parser.getKey(), version, SEED)
+                                  .isEqualTo(expected == null ? null : expected.toSemanticVersion());
+            }
+        }
+    }
+
+    @Test
+    public void validatorsShouldAgreeWithReference() {
+        //given
+        VersionGenerator generator = new VersionGenerator(new Random(SEED));
+
+        //when
+        //then
+        for (int i = 0; i < CASES; i++) {
+            String version = generator.any();
+            boolean expected = ReferenceSemver.parse(version, ReferenceSemver.Dialect.LIBRARY) != null;
+            for (Map.Entry<String, Predicate<String>> validator : SemverImplementations.VALIDATORS.entrySet()) {
+                assertThat(validator.getValue().test(version)).as("%s(%s), seed %d", validator.getKey(), version, SEED)
+                                                              .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void comparatorsShouldAgreeWithReference() {
+        //given
+        VersionGenerator generator = new VersionGenerator(new Random(SEED));
+
+        //when
+        //then
+        for (int i = 0; i < CASES; i++) {
+            String first = generator.valid();
+            String second = i % 2 == 0 ? generator.validRelated(first) : generator.valid();
+            int expected = Integer.signum(ReferenceSemver.compare(parseReference(first), parseReference(second)));
+            for (Map.Entry<String, Comparator<SemanticVersion>> comparator : SemverImplementations.COMPARATORS.entrySet()) {
+                int result = comparator.getValue().compare(SemanticVersion.fromString(first),
+                                                           SemanticVersion.fromString(second));
+                assertThat(Integer.signum(result)).as("%s(%s, %s), seed %d", comparator.getKey(), first, second, SEED)
+                                                  .isEqualTo(expected);
+            }
+        }
+    }
+
+    @Test
+    public void comparatorsShouldSortLikeReference() {
+        //given
+        VersionGenerator generator = new VersionGenerator(new Random(SEED));
+
+        //when
+        //then
+        for (int i = 0; i < CASES / 100; i++) {
+            List<String> versions = new ArrayList<>();
+            versions.add(generator.valid());
+            for (int j = 1; j < 100; j++) {
+                String previous = versions.get(j % 3 == 0 ? 0 : j - 1);
+                versions.add(j % 2 == 0 ? generator.valid() : generator.validRelated(previous));
+            }
+            for (Map.Entry<String, Comparator<SemanticVersion>> comparator : SemverImplementations.COMPARATORS.entrySet()) {
+                List<String> sorted = new ArrayList<>(versions);
+                sorted.sort(Comparator.comparing(SemanticVersion::fromString, comparator.getValue()));
+                for (int j = 1; j < sorted.size(); j++) {
+                    assertThat(ReferenceSemver.compare(parseReference(sorted.get(j - 1)), parseReference(sorted.get(j))))
+                            .as("%s sorted %s before %s, seed %d", comparator.getKey(), sorted.get(j - 1), sorted.get(j),
+                                SEED)
+                            .isLessThanOrEqualTo(0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void validVersionsShouldRoundTrip() {
+        //given
+        VersionGenerator generator = new VersionGenerator(new Random(SEED));
+
+        //when
+        //then
+        for (int i = 0; i < CASES; i++) {
+            SemanticVersion version = SemanticVersion.fromString(generator.valid());
+            assertThat(SemanticVersion.fromString(version.toString())).as("%s, seed %d", version, SEED)
+                                                                     .isEqualTo(version);
+            assertThat(ReferenceSemver.parse(version.toString(), ReferenceSemver.Dialect.SPEC))
+                    .as("%s accepted by library, but not by specification, seed %d", version, SEED)
+                    .isNotNull();
+        }
+    }
+
+    private static SemanticVersion parseOrNull(Function<String, SemanticVersion> parser, String version) {
+        try {
+            return parser.apply(version);
+        } catch (RuntimeException err) {
+            return null;
+        }
+    }
+
+    private static ReferenceSemver parseReference(String version) {
+        return ReferenceSemver.parse(version, ReferenceSemver.Dialect.LIBRARY);
+    }
+}
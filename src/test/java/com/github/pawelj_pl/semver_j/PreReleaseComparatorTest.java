@@ -0,0 +1,94 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PreReleaseComparatorTest {
+
+    @Test
+    public void shouldTreatMissingPreReleaseAsGreater() {
+        //given
+        String preRelease = "alpha";
+
+        //when
+        int result = PreReleaseComparator.compare(null, preRelease);
+
+        //then
+        assertThat(result).isGreaterThan(0);
+        assertThat(PreReleaseComparator.compare(preRelease, null)).isLessThan(0);
+        assertThat(PreReleaseComparator.compare(null, null)).isZero();
+    }
+
+    @Test
+    public void shouldCompareNumericIdentifiersByValue() {
+        //given
+        String first = "alpha.9";
+        String second = "alpha.10";
+
+        //when
+        int result = PreReleaseComparator.compare(first, second);
+
+        //then
+        assertThat(result).isLessThan(0);
+    }
+
+    @Test
+    public void shouldTreatIdentifiersWithHyphenAsAlphanumeric() {
+        //given
+        String first = "-2";
+        String second = "2147483647";
+
+        //when
+        int result = PreReleaseComparator.compare(first, second);
+
+        //then
+        assertThat(result).isGreaterThan(0);
+        assertThat(PreReleaseComparator.compare(first, "alpha")).isLessThan(0);
+    }
+
+    @Test
+    public void shouldCompareNumericIdentifiersExceedingIntByValue() {
+        //given
+        String first = "99999999999";
+        String second = "100000000000";
+
+        //when
+        int result = PreReleaseComparator.compare(first, second);
+
+        //then
+        assertThat(result).isLessThan(0);
+        assertThat(PreReleaseComparator.compare(first, "5")).isGreaterThan(0);
+        assertThat(PreReleaseComparator.compare(first, "alpha")).isLessThan(0);
+    }
+
+    @Test
+    public void shouldCompareAlphanumericIdentifiersLexically() {
+        //given
+        String first = "alpha.beta";
+        String second = "alpha.betb.1";
+
+        //when
+        int result = PreReleaseComparator.compare(first, second);
+
+        //then
+        assertThat(result).isLessThan(0);
+        assertThat(PreReleaseComparator.compare("alpha.be", "alpha.beta")).isLessThan(0);
+    }
+
+    @Test
+    public void shouldCompareIdentifiersFollowingLongCommonPrefix() {
+        //given
+        String prefix = "build.2023.10.17.abcdef0123456789.";
+
+        //when
+        int result = PreReleaseComparator.compare(prefix + "100", prefix + "99");
+
+        //then
+        assertThat(result).isGreaterThan(0);
+        assertThat(PreReleaseComparator.compare(prefix + "1.x", prefix + "12")).isLessThan(0);
+        assertThat(PreReleaseComparator.compare(prefix + "a", prefix + "a.b")).isLessThan(0);
+        assertThat(PreReleaseComparator.compare(prefix + "10", prefix + "1a")).isLessThan(0);
+        assertThat(PreReleaseComparator.compare("1" + prefix, "2" + prefix)).isLessThan(0);
+    }
+}
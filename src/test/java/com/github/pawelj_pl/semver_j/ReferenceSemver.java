@@ -0,0 +1,191 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Straightforward, unoptimized implementation of Semantic Versioning 2.0.0 used as an oracle by
+ * {@link DifferentialTest}. Precedence follows the specification exactly; parsing supports the grammar of the
+ * specification and the one accepted by this library.
+ */
+final class ReferenceSemver {
+
+    enum Dialect {
+        /**
+         * Grammar from the specification.
+         */
+        SPEC,
+
+        /**
+         * Grammar of {@link SemanticVersion#fromString(String)}, which differs from the specification:
+         * major, minor and patch may have leading zeros but must fit in int, and pre-release identifiers must not
+         * start with 0 (so neither 0 nor 0abc are accepted).
+         */
+        LIBRARY
+    }
+
+    private final BigInteger major;
+
+    private final BigInteger minor;
+
+    private final BigInteger patch;
+
+    private final List<String> preRelease;
+
+    private final String buildMetadata;
+
+    private ReferenceSemver(BigInteger major, BigInteger minor, BigInteger patch, List<String> preRelease,
+                            String buildMetadata) {
+        this.major = major;
+        this.minor = minor;
+        this.patch = patch;
+        this.preRelease = preRelease;
+        this.buildMetadata = buildMetadata;
+    }
+
+    /**
+     * @return parsed version or null if input is not valid in provided dialect
+     */
+    static ReferenceSemver parse(String version, Dialect dialect) {
+        String remaining = version;
+        String buildMetadata = null;
+        int plus = remaining.indexOf('+');
+        if (plus >= 0) {
+            buildMetadata = remaining.substring(plus + 1);
+            remaining = remaining.substring(0, plus);
+            for (String identifier : split(buildMetadata)) {
+                if (!isIdentifier(identifier)) {
+                    return null;
+                }
+            }
+        }
+        List<String> preRelease = Collections.emptyList();
+        int hyphen = remaining.indexOf('-');
+        if (hyphen >= 0) {
+            preRelease = split(remaining.substring(hyphen + 1));
+            remaining = remaining.substring(0, hyphen);
+            for (String identifier : preRelease) {
+                if (!isIdentifier(identifier)) {
+                    return null;
+                }
+                if (dialect == Dialect.SPEC && isNumeric(identifier) && hasLeadingZero(identifier)) {
+                    return null;
+                }
+                if (dialect == Dialect.LIBRARY && identifier.charAt(0) == '0') {
+                    return null;
+                }
+            }
+        }
+        List<String> core = split(remaining);
+        if (core.size() != 3) {
+            return null;
+        }
+        for (String number : core) {
+            if (!isNumeric(number)) {
+                return null;
+            }
+            if (dialect == Dialect.SPEC && hasLeadingZero(number)) {
+                return null;
+            }
+            if (dialect == Dialect.LIBRARY && new BigInteger(number).compareTo(BigInteger.valueOf(Integer.MAX_VALUE)) > 0) {
+                return null;
+            }
+        }
+        return new ReferenceSemver(new BigInteger(core.get(0)), new BigInteger(core.get(1)), new BigInteger(core.get(2)),
+                                   preRelease, buildMetadata);
+    }
+
+    /**
+     * Precedence as defined by point 11 of the specification.
+     */
+    static int compare(ReferenceSemver first, ReferenceSemver second) {
+        int result = first.major.compareTo(second.major);
+        if (result == 0) {
+            result = first.minor.compareTo(second.minor);
+        }
+        if (result == 0) {
+            result = first.patch.compareTo(second.patch);
+        }
+        if (result != 0) {
+            return result;
+        }
+        if (first.preRelease.isEmpty() || second.preRelease.isEmpty()) {
+            return Boolean.compare(first.preRelease.isEmpty(), second.preRelease.isEmpty());
+        }
+        for (int i = 0; i < Math.min(first.preRelease.size(), second.preRelease.size()); i++) {
+            String firstIdentifier = first.preRelease.get(i);
+            String secondIdentifier = second.preRelease.get(i);
+            boolean firstNumeric = isNumeric(firstIdentifier);
+            boolean secondNumeric = isNumeric(secondIdentifier);
+            if (firstNumeric && secondNumeric) {
+                result = new BigInteger(firstIdentifier).compareTo(new BigInteger(secondIdentifier));
+            } else if (firstNumeric || secondNumeric) {
+                result = firstNumeric ? -1 : 1;
+            } else {
+                result = firstIdentifier.compareTo(secondIdentifier);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(first.preRelease.size(), second.preRelease.size());
+    }
+
+    /**
+     * Converts version parsed in {@link Dialect#LIBRARY} dialect.
+     */
+    SemanticVersion toSemanticVersion() {
+        return new SemanticVersion(major.intValueExact(), minor.intValueExact(), patch.intValueExact(),
+                                   preRelease.isEmpty() ? null : String.join(".", preRelease), buildMetadata);
+    }
+
+    private static List<String> split(String value) {
+        List<String> result = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= value.length(); i++) {
+            if (i == value.length() || value.charAt(i) == '.') {
+                result.add(value.substring(start, i));
+                start = i + 1;
+            }
+        }
+        return result;
+    }
+
+    private static boolean isIdentifier(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (char character : value.toCharArray()) {
+            boolean allowed = (character >= '0' && character <= '9') || (character >= 'a' && character <= 'z') ||
+                    (character >= 'A' && character <= 'Z') || character == '-';
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isNumeric(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (char character : value.toCharArray()) {
+            if (character < '0' || character > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasLeadingZero(String number) {
+        return number.length() > 1 && number.charAt(0) == '0';
+    }
+
+    @Override
+    public String toString() {
+        return major + "." + minor + "." + patch + (preRelease.isEmpty() ? "" : "-" + String.join(".", preRelease)) +
+                (buildMetadata == null ? "" : "+" + buildMetadata);
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.nio.charset.StandardCharsets;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class SemanticVersionTest {
@@ -214,6 +216,29 @@ public class SemanticVersionTest {
         SemanticVersion.fromString(inputData);
     }
     
+    @Test
+    public void shouldCreateVersionFromBytes() {
+        //given
+        byte[] inputData = "xx3.17.4-beta12-3.4+1build17yy".getBytes(StandardCharsets.US_ASCII);
+        
+        //when
+        SemanticVersion result = SemanticVersion.fromBytes(inputData, 2, inputData.length - 4);
+        
+        //then
+        assertThat(result).isEqualTo(new SemanticVersion(3, 17, 4, "beta12-3.4", "1build17"));
+    }
+    
+    @Test
+    public void shouldThrowExceptionWhenBytesNotValidVersion() {
+        //given
+        byte[] inputData = "0.2.4-12a.opa.01a".getBytes(StandardCharsets.US_ASCII);
+        
+        //when
+        expectedException.expect(VersionError.class);
+        expectedException.expectMessage("0.2.4-12a.opa.01a is not valid semver");
+        SemanticVersion.fromBytes(inputData, 0, inputData.length);
+    }
+    
     @Test
     public void shouldIncrementMajor() {
         //given
@@ -0,0 +1,114 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SemverBatchResolverTest {
+
+    @Test
+    public void shouldResolveJob() {
+        //given
+        SemverBatchResolver resolver = new SemverBatchResolver(Runnable::run);
+        ResolutionJob job = new ResolutionJob("lib", VersionRangeSet.atLeast(SemanticVersion.fromString("1.0.0")),
+                                              Arrays.asList("2.0.0", "0.9.0", "not-a-version", "1.0.0", "1.5.0-rc.1"));
+
+        //when
+        ResolutionResult result = resolver.submit(job).join();
+
+        //then
+        assertThat(result.getPackageName()).isEqualTo("lib");
+        assertThat(result.getMatching()).containsExactly(SemanticVersion.fromString("1.0.0"),
+                                                         SemanticVersion.fromString("1.5.0-rc.1"),
+                                                         SemanticVersion.fromString("2.0.0"));
+        assertThat(result.getBest()).contains(SemanticVersion.fromString("2.0.0"));
+        assertThat(result.getInvalidCandidates()).containsExactly("not-a-version");
+    }
+
+    @Test
+    public void shouldResolveManyJobsConcurrently() {
+        //given
+        Random random = new Random(32L);
+        List<ResolutionJob> jobs = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            List<String> candidates = new ArrayList<>();
+            int count = random.nextInt(10) == 0 ? 6_000 : random.nextInt(200);
+            for (int j = 0; j < count; j++) {
+                candidates.add(random.nextInt(5) + "." + random.nextInt(20) + "." + random.nextInt(20) +
+                                       (random.nextInt(4) == 0 ? "-rc." + (1 + random.nextInt(3)) : ""));
+            }
+            SemanticVersion lower = new SemanticVersion(random.nextInt(5), random.nextInt(20), 0);
+            jobs.add(new ResolutionJob("package" + i, VersionRangeSet.between(lower, true, lower.incrementMajor(), false),
+                                       candidates));
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        SemverBatchResolver resolver = new SemverBatchResolver(pool);
+
+        //when
+        List<ResolutionResult> results = resolver.resolveAll(jobs).join();
+        pool.shutdown();
+
+        //then
+        assertThat(results).hasSize(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            ResolutionJob job = jobs.get(i);
+            List<SemanticVersion> expected = job.getCandidates().stream()
+                                                .map(SemanticVersion::fromString)
+                                                .filter(job.getConstraint()::contains)
+                                                .sorted()
+                                                .collect(Collectors.toList());
+            assertThat(results.get(i).getPackageName()).isEqualTo(job.getPackageName());
+            assertThat(results.get(i).getMatching()).isEqualTo(expected);
+            assertThat(results.get(i).getInvalidCandidates()).isEmpty();
+        }
+    }
+
+    @Test
+    public void shouldCacheInvalidCandidates() {
+        //given
+        SemverBatchResolver resolver = new SemverBatchResolver(Runnable::run);
+        ResolutionJob job = new ResolutionJob("lib", VersionRangeSet.all(),
+                                              Arrays.asList("1.0.0", "not-a-version", "01.0.0-01"));
+
+        //when
+        ResolutionResult first = resolver.submit(job).join();
+        ResolutionResult second = resolver.submit(job).join();
+
+        //then
+        assertThat(resolver.getCacheSize()).isEqualTo(3);
+        assertThat(second.getMatching()).isEqualTo(first.getMatching())
+                                        .containsExactly(SemanticVersion.fromString("1.0.0"));
+        assertThat(second.getInvalidCandidates()).isEqualTo(first.getInvalidCandidates())
+                                                 .containsExactly("not-a-version", "01.0.0-01");
+    }
+
+    @Test
+    public void shouldBoundCache() {
+        //given
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        SemverBatchResolver resolver = new SemverBatchResolver(executor, 10);
+        List<String> candidates = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            candidates.add("1.0." + i);
+        }
+        ResolutionJob job = new ResolutionJob("lib", VersionRangeSet.all(), candidates);
+
+        //when
+        List<ResolutionResult> results = resolver.resolveAll(Collections.nCopies(4, job)).join();
+        executor.shutdown();
+
+        //then
+        assertThat(resolver.getCacheSize()).isBetween(10, 12);
+        assertThat(results).allMatch(result -> result.getMatching().size() == 100);
+    }
+}
@@ -0,0 +1,57 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Implementations verified by {@link DifferentialTest} against {@link ReferenceSemver}. New parsers, validators,
+ * comparators, encodings or sort keys should be registered here (a sort key as {@code Comparator.comparing(key)}).
+ */
+final class SemverImplementations {
+
+    /**
+     * Parsers, which have to accept exactly the versions valid in {@link ReferenceSemver.Dialect#LIBRARY} dialect and
+     * reject others by throwing an exception.
+     */
+    static final Map<String, Function<String, SemanticVersion>> PARSERS = new LinkedHashMap<>();
+
+    /**
+     * Validators, which have to accept exactly the versions valid in {@link ReferenceSemver.Dialect#LIBRARY} dialect.
+     */
+    static final Map<String, Predicate<String>> VALIDATORS = new LinkedHashMap<>();
+
+    /**
+     * Comparators, which have to order versions according to specification precedence.
+     */
+    static final Map<String, Comparator<SemanticVersion>> COMPARATORS = new LinkedHashMap<>();
+
+    static {
+        PARSERS.put("fromString", SemanticVersion::fromString);
+        PARSERS.put("fromBytes", version -> {
+            byte[] bytes = version.getBytes(StandardCharsets.UTF_8);
+            return SemanticVersion.fromBytes(bytes, 0, bytes.length);
+        });
+        PARSERS.put("coerce", version -> SemanticVersion.coerce(
+                version, CoercionOptions.of(Coercion.STRIPPED_LEADING_ZEROS)).getVersion());
+
+        VALIDATORS.put("isValid", version -> {
+            byte[] bytes = version.getBytes(StandardCharsets.UTF_8);
+            return SemanticVersion.isValid(bytes, 0, bytes.length);
+        });
+
+        COMPARATORS.put("compareTo", SemanticVersion::compareTo);
+        COMPARATORS.put("VersionRangeSet", (first, second) -> {
+            if (VersionRangeSet.lessThan(second).contains(first)) {
+                return -1;
+            }
+            return VersionRangeSet.exactly(second).contains(first) ? 0 : 1;
+        });
+    }
+
+    private SemverImplementations() {
+    }
+}
@@ -0,0 +1,29 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StringBytesTest {
+
+    /**
+     * Set by testJava17 task, which puts Java 17 variants first on classpath.
+     */
+    private static final boolean JAVA_17_VARIANTS = Boolean.getBoolean("semver.java17Variants");
+
+    @Test
+    public void shouldEncodeAsLatin1OnlyInJava17Variant() {
+        //given
+        String value = "1.2.3-\u00e9\u20ac";
+
+        //when
+        byte[] result = StringBytes.latin1IfCheap(value);
+
+        //then
+        if (JAVA_17_VARIANTS) {
+            assertThat(result).containsExactly('1', '.', '2', '.', '3', '-', 0xE9, '?');
+        } else {
+            assertThat(result).isNull();
+        }
+    }
+}
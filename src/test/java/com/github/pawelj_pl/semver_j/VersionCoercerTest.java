@@ -0,0 +1,186 @@
+package com.github.pawelj_pl.semver_j;
+
+import com.github.pawelj_pl.semver_j.exceptions.VersionError;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VersionCoercerTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void shouldNotApplyCoercionsToStrictVersion() {
+        //given
+        String inputData = "3.17.4-beta12-3.4+1build17";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.none());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(SemanticVersion.fromString(inputData));
+        assertThat(result.getAppliedCoercions()).isEmpty();
+        assertThat(result.isCoerced()).isFalse();
+    }
+
+    @Test
+    public void shouldStripPrefixAndFillMissingComponents() {
+        //given
+        String inputData = "v1.2";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.all());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(new SemanticVersion(1, 2, 0));
+        assertThat(result.getAppliedCoercions())
+                .containsExactlyInAnyOrder(Coercion.STRIPPED_PREFIX, Coercion.FILLED_MISSING_COMPONENTS);
+    }
+
+    @Test
+    public void shouldStripEqualsPrefix() {
+        //given
+        String inputData = "=1.2.3";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.all());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(new SemanticVersion(1, 2, 3));
+        assertThat(result.getAppliedCoercions()).containsExactly(Coercion.STRIPPED_PREFIX);
+    }
+
+    @Test
+    public void shouldMoveExtraComponentsToBuildMetadata() {
+        //given
+        String inputData = "1.2.3.4.05-rc1+build";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.all());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(new SemanticVersion(1, 2, 3, "rc1", "4.05.build"));
+        assertThat(result.getAppliedCoercions()).containsExactly(Coercion.MOVED_EXTRA_COMPONENTS_TO_BUILD_METADATA);
+    }
+
+    @Test
+    public void shouldMoveTimestampComponentToBuildMetadata() {
+        //given
+        String inputData = "1.2.3.20190101120000";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.all());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(new SemanticVersion(1, 2, 3, null, "20190101120000"));
+        assertThat(result.getAppliedCoercions()).containsExactly(Coercion.MOVED_EXTRA_COMPONENTS_TO_BUILD_METADATA);
+    }
+
+    @Test
+    public void shouldFillPatchBeforePreRelease() {
+        //given
+        String inputData = "1.0-SNAPSHOT";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.all());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(new SemanticVersion(1, 0, 0, "SNAPSHOT", null));
+        assertThat(result.getAppliedCoercions()).containsExactly(Coercion.FILLED_MISSING_COMPONENTS);
+    }
+
+    @Test
+    public void shouldTrimWhitespaceAndStripLeadingZeros() {
+        //given
+        String inputData = " \t01.002.3\n";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.all());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(new SemanticVersion(1, 2, 3));
+        assertThat(result.getAppliedCoercions())
+                .containsExactlyInAnyOrder(Coercion.TRIMMED_WHITESPACE, Coercion.STRIPPED_LEADING_ZEROS);
+    }
+
+    @Test
+    public void shouldFailWhenRequiredCoercionNotAllowed() {
+        //given
+        String inputData = "v1.2";
+
+        //then
+        expectedException.expect(VersionError.class);
+        expectedException.expectMessage("STRIPPED_PREFIX not allowed");
+
+        //when
+        SemanticVersion.coerce(inputData, CoercionOptions.all().disallow(Coercion.STRIPPED_PREFIX));
+    }
+
+    @Test
+    public void shouldReportLeadingZerosAcceptedByFromString() {
+        //given
+        String inputData = "01.2.3";
+
+        //then
+        assertThat(SemanticVersion.fromString(inputData)).isEqualTo(new SemanticVersion(1, 2, 3));
+        expectedException.expect(VersionError.class);
+        expectedException.expectMessage("STRIPPED_LEADING_ZEROS not allowed");
+
+        //when
+        SemanticVersion.coerce(inputData, CoercionOptions.none());
+    }
+
+    @Test
+    public void shouldFailWhenInputCanNotBeCoerced() {
+        //given
+        String inputData = "1.2.x";
+
+        //then
+        expectedException.expect(VersionError.class);
+        expectedException.expectMessage("1.2.x is not valid semver");
+
+        //when
+        SemanticVersion.coerce(inputData, CoercionOptions.all());
+    }
+
+    @Test
+    public void shouldStripEqualsAndVPrefix() {
+        //given
+        String inputData = "=V1.2.3";
+
+        //when
+        CoercionResult result = SemanticVersion.coerce(inputData, CoercionOptions.all());
+
+        //then
+        assertThat(result.getVersion()).isEqualTo(new SemanticVersion(1, 2, 3));
+        assertThat(result.getAppliedCoercions()).containsExactly(Coercion.STRIPPED_PREFIX);
+    }
+
+    @Test
+    public void shouldFailWhenPrefixRepeated() {
+        //given
+        String inputData = "vv1.2.3";
+
+        //then
+        expectedException.expect(VersionError.class);
+        expectedException.expectMessage("vv1.2.3 is not valid semver");
+
+        //when
+        SemanticVersion.coerce(inputData, CoercionOptions.all());
+    }
+
+    @Test
+    public void shouldFailWhenNumberOverflows() {
+        //given
+        String inputData = "v2147483648";
+
+        //then
+        expectedException.expect(VersionError.class);
+
+        //when
+        SemanticVersion.coerce(inputData, CoercionOptions.all());
+    }
+}
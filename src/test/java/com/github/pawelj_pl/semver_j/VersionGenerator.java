@@ -0,0 +1,166 @@
+package com.github.pawelj_pl.semver_j;
+
+import java.util.Random;
+
+/**
+ * Random version strings for {@link DifferentialTest}, biased towards edge cases: leading zeros, numbers around and far
+ * beyond int range, identifiers made of hyphens and deep pre-release chains. Part of the strings is mutated to become
+ * (usually) invalid.
+ * <p>
+ * Line terminators are never generated, as {@link SemanticVersion#fromString(String)} deliberately tolerates a trailing
+ * one.
+ */
+final class VersionGenerator {
+    private static final String MUTATION_ALPHABET = "0123456789azAZ-.+_ /\u00e9";
+
+    private static final String IDENTIFIER_ALPHABET = "0123456789abcxyzABCXYZ-";
+
+    private final Random random;
+
+    VersionGenerator(Random random) {
+        this.random = random;
+    }
+
+    /**
+     * @return version string which may be valid or invalid
+     */
+    String any() {
+        String version = candidate();
+        return random.nextInt(4) == 0 ? mutate(version) : version;
+    }
+
+    /**
+     * @return version string accepted by {@link SemanticVersion#fromString(String)}
+     */
+    String valid() {
+        while (true) {
+            String version = candidate();
+            if (ReferenceSemver.parse(version, ReferenceSemver.Dialect.LIBRARY) != null) {
+                return version;
+            }
+        }
+    }
+
+    /**
+     * @return valid version similar to provided one, so precedence is decided by a late component
+     */
+    String validRelated(String base) {
+        for (int attempt = 0; attempt < 10; attempt++) {
+            String version = related(base);
+            if (ReferenceSemver.parse(version, ReferenceSemver.Dialect.LIBRARY) != null) {
+                return version;
+            }
+        }
+        return valid();
+    }
+
+    private String candidate() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(number()).append('.').append(number()).append('.').append(number());
+        if (random.nextInt(3) > 0) {
+            builder.append('-').append(identifiers(random.nextInt(10) == 0 ? 40 : 4));
+        }
+        if (random.nextInt(3) == 0) {
+            builder.append('+').append(identifiers(4));
+        }
+        return builder.toString();
+    }
+
+    private String related(String base) {
+        int plus = base.indexOf('+');
+        String withoutBuild = plus < 0 ? base : base.substring(0, plus);
+        switch (random.nextInt(5)) {
+            case 0:
+                return withoutBuild + "." + identifier();
+            case 1:
+                return withoutBuild.substring(0, withoutBuild.lastIndexOf('.') + 1) + identifier();
+            case 2:
+                int hyphen = withoutBuild.indexOf('-');
+                return hyphen < 0 ? withoutBuild + "-" + identifier() : withoutBuild.substring(0, hyphen);
+            case 3:
+                return withoutBuild + "+" + identifiers(2);
+            default:
+                return base;
+        }
+    }
+
+    private String number() {
+        switch (random.nextInt(10)) {
+            case 0:
+                return "0";
+            case 1:
+                return "0" + random.nextInt(20);
+            case 2:
+                return String.valueOf(Integer.MAX_VALUE - random.nextInt(3));
+            case 3:
+                return random.nextBoolean() ? String.valueOf(Integer.MAX_VALUE + 1L) : digits(10 + random.nextInt(30));
+            default:
+                return String.valueOf(random.nextInt(12));
+        }
+    }
+
+    private String identifiers(int maxCount) {
+        int count = 1 + random.nextInt(maxCount);
+        StringBuilder builder = new StringBuilder(identifier());
+        for (int i = 1; i < count; i++) {
+            builder.append('.').append(identifier());
+        }
+        return builder.toString();
+    }
+
+    private String identifier() {
+        switch (random.nextInt(8)) {
+            case 0:
+                return number();
+            case 1:
+                return random.nextBoolean() ? "-" : "-" + random.nextInt(10);
+            case 2:
+                return random.nextBoolean() ? "alpha" : "beta";
+            case 3:
+                return digits(1 + random.nextInt(25));
+            default:
+                StringBuilder builder = new StringBuilder();
+                int length = 1 + random.nextInt(random.nextInt(10) == 0 ? 30 : 6);
+                for (int i = 0; i < length; i++) {
+                    builder.append(IDENTIFIER_ALPHABET.charAt(random.nextInt(IDENTIFIER_ALPHABET.length())));
+                }
+                return builder.toString();
+        }
+    }
+
+    private String digits(int length) {
+        StringBuilder builder = new StringBuilder();
+        builder.append((char) ('1' + random.nextInt(9)));
+        for (int i = 1; i < length; i++) {
+            builder.append((char) ('0' + random.nextInt(10)));
+        }
+        return builder.toString();
+    }
+
+    private String mutate(String version) {
+        StringBuilder builder = new StringBuilder(version);
+        int mutations = 1 + random.nextInt(2);
+        for (int i = 0; i < mutations; i++) {
+            int position = random.nextInt(builder.length() + 1);
+            char character = MUTATION_ALPHABET.charAt(random.nextInt(MUTATION_ALPHABET.length()));
+            switch (random.nextInt(4)) {
+                case 0:
+                    builder.insert(position, character);
+                    break;
+                case 1:
+                    if (position < builder.length()) {
+                        builder.deleteCharAt(position);
+                    }
+                    break;
+                case 2:
+                    if (position < builder.length()) {
+                        builder.setCharAt(position, character);
+                    }
+                    break;
+                default:
+                    builder.setLength(position);
+            }
+        }
+        return builder.toString();
+    }
+}
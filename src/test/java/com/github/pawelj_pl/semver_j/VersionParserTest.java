@@ -0,0 +1,68 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VersionParserTest {
+
+    private static final char[] ALPHABET = {'0', '1', '7', 'a', 'Z', '-', '.', '+', '_', '\u00e9'};
+
+    @Test
+    public void shouldParseLikeReferenceImplementation() {
+        //given
+        Random random = new Random(2600L);
+
+        //when
+        //then
+        for (int i = 0; i < 200_000; i++) {
+            String version = randomVersion(random);
+            ReferenceSemver reference = ReferenceSemver.parse(version, ReferenceSemver.Dialect.LIBRARY);
+            SemanticVersion expected = reference == null ? null : reference.toSemanticVersion();
+            byte[] bytes = ("#" + version + "#").getBytes(StandardCharsets.UTF_8);
+            assertThat(VersionParser.parse(bytes, 1, bytes.length - 2)).as(version).isEqualTo(expected);
+            assertThat(VersionParser.parse(version)).as(version).isEqualTo(expected);
+            assertThat(VersionParser.parse(new StringBuilder(version))).as(version).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    public void shouldParseVersionInsideLargerArray() {
+        //given
+        byte[] input = "xx1.2.3-beta.1+0007yy".getBytes(StandardCharsets.US_ASCII);
+
+        //when
+        SemanticVersion result = VersionParser.parse(input, 2, input.length - 4);
+
+        //then
+        assertThat(result).isEqualTo(new SemanticVersion(1, 2, 3, "beta.1", "0007"));
+        assertThat(VersionParser.parse(input, 1, input.length - 3)).isNull();
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailWhenRangeOutOfBounds() {
+        //given
+        byte[] input = "1.2.3".getBytes(StandardCharsets.US_ASCII);
+
+        //when
+        VersionParser.parse(input, -1, input.length);
+    }
+
+    private String randomVersion(Random random) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(random.nextInt(3) == 0 ? "0" : "").append(random.nextInt(1000)).append('.')
+               .append(random.nextInt(1000)).append('.')
+               .append(random.nextInt(10) == 0 ? String.valueOf(Integer.MAX_VALUE + 1L) : random.nextInt(1000));
+        int length = random.nextInt(30);
+        if (length > 0) {
+            builder.append(random.nextBoolean() ? '-' : '+');
+        }
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,160 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VersionRangeSetTest {
+
+    @Test
+    public void shouldIntersectConstraints() {
+        //given
+        VersionRangeSet first = VersionRangeSet.atLeast(SemanticVersion.fromString("1.2.0"));
+        VersionRangeSet second = VersionRangeSet.lessThan(SemanticVersion.fromString("2.0.0"));
+
+        //when
+        VersionRangeSet result = first.intersect(second);
+
+        //then
+        assertThat(result).isEqualTo(VersionRangeSet.between(SemanticVersion.fromString("1.2.0"), true,
+                                                             SemanticVersion.fromString("2.0.0"), false));
+        assertThat(result.contains(SemanticVersion.fromString("1.9.9"))).isTrue();
+        assertThat(result.contains(SemanticVersion.fromString("2.0.0-rc.1"))).isTrue();
+        assertThat(result.contains(SemanticVersion.fromString("2.0.0"))).isFalse();
+        assertThat(result.contains(SemanticVersion.fromString("1.2.0-rc.1"))).isFalse();
+    }
+
+    @Test
+    public void shouldDetectEmptyIntersection() {
+        //given
+        VersionRangeSet first = VersionRangeSet.lessThan(SemanticVersion.fromString("1.0.0"));
+        VersionRangeSet second = VersionRangeSet.atLeast(SemanticVersion.fromString("1.0.0"));
+
+        //when
+        VersionRangeSet result = VersionRangeSet.intersectAll(Arrays.asList(first, second));
+
+        //then
+        assertThat(result.isEmpty()).isTrue();
+        assertThat(result).isEqualTo(VersionRangeSet.empty());
+    }
+
+    @Test
+    public void shouldMergeAdjacentIntervalsInUnion() {
+        //given
+        VersionRangeSet first = VersionRangeSet.lessThan(SemanticVersion.fromString("1.0.0"));
+        VersionRangeSet second = VersionRangeSet.atLeast(SemanticVersion.fromString("1.0.0+build"));
+
+        //when
+        VersionRangeSet result = first.union(second);
+
+        //then
+        assertThat(result).isEqualTo(VersionRangeSet.all());
+    }
+
+    @Test
+    public void shouldComplementSet() {
+        //given
+        VersionRangeSet set = VersionRangeSet.exactly(SemanticVersion.fromString("1.0.0"))
+                                             .union(VersionRangeSet.atLeast(SemanticVersion.fromString("2.0.0")));
+
+        //when
+        VersionRangeSet result = set.complement();
+
+        //then
+        assertThat(result.toString()).isEqualTo("{(*, 1.0.0), (1.0.0, 2.0.0)}");
+        assertThat(result.complement()).isEqualTo(set);
+    }
+
+    @Test
+    public void shouldCheckSubsumption() {
+        //given
+        VersionRangeSet wide = VersionRangeSet.between(SemanticVersion.fromString("1.0.0"), true,
+                                                       SemanticVersion.fromString("3.0.0"), false);
+        VersionRangeSet narrow = VersionRangeSet.between(SemanticVersion.fromString("1.5.0"), false,
+                                                         SemanticVersion.fromString("3.0.0"), false);
+
+        //when
+        boolean result = wide.subsumes(narrow);
+
+        //then
+        assertThat(result).isTrue();
+        assertThat(narrow.subsumes(wide)).isFalse();
+        assertThat(wide.subsumes(VersionRangeSet.empty())).isTrue();
+    }
+
+    @Test
+    public void shouldFilterSortedVersions() {
+        //given
+        VersionRangeSet set = VersionRangeSet.lessThan(SemanticVersion.fromString("1.0.0"))
+                                             .union(VersionRangeSet.greaterThan(SemanticVersion.fromString("2.0.0")));
+        List<SemanticVersion> versions = Arrays.asList(SemanticVersion.fromString("0.9.0"),
+                                                       SemanticVersion.fromString("1.0.0-beta"),
+                                                       SemanticVersion.fromString("1.0.0"),
+                                                       SemanticVersion.fromString("2.0.0"),
+                                                       SemanticVersion.fromString("2.0.1"));
+
+        //when
+        List<SemanticVersion> result = set.filter(versions);
+
+        //then
+        assertThat(result).containsExactly(SemanticVersion.fromString("0.9.0"),
+                                           SemanticVersion.fromString("1.0.0-beta"),
+                                           SemanticVersion.fromString("2.0.1"));
+    }
+
+    @Test
+    public void shouldAgreeWithPointwiseMembership() {
+        //given
+        Random random = new Random(29L);
+        List<SemanticVersion> probes = new ArrayList<>();
+        for (int minor = 0; minor <= 6; minor++) {
+            probes.add(new SemanticVersion(1, minor, 0, "alpha", null));
+            probes.add(new SemanticVersion(1, minor, 0));
+            probes.add(new SemanticVersion(1, minor, 1));
+        }
+
+        //when
+        //then
+        for (int i = 0; i < 2_000; i++) {
+            VersionRangeSet first = randomSet(random);
+            VersionRangeSet second = randomSet(random);
+            assertPointwise(first.intersect(second), first, second, probes, (a, b) -> a && b);
+            assertPointwise(first.union(second), first, second, probes, (a, b) -> a || b);
+            assertPointwise(first.difference(second), first, second, probes, (a, b) -> a && !b);
+            assertPointwise(first.complement(), first, first, probes, (a, b) -> !a);
+            assertThat(first.complement().complement()).isEqualTo(first);
+            assertThat(first.union(second).subsumes(first)).isTrue();
+            assertThat(first.subsumes(second)).isEqualTo(second.difference(first).isEmpty());
+            assertThat(first.filter(probes)).allMatch(first::contains);
+        }
+    }
+
+    private void assertPointwise(VersionRangeSet result, VersionRangeSet first, VersionRangeSet second,
+                                 List<SemanticVersion> probes, BiPredicate<Boolean, Boolean> operation) {
+        for (SemanticVersion probe : probes) {
+            assertThat(result.contains(probe)).as("%s for %s and %s", probe, first, second)
+                                              .isEqualTo(operation.test(first.contains(probe), second.contains(probe)));
+        }
+        List<VersionInterval> intervals = result.getIntervals();
+        for (int i = 1; i < intervals.size(); i++) {
+            assertThat(VersionInterval.isConnected(intervals.get(i - 1), intervals.get(i))).isFalse();
+        }
+    }
+
+    private VersionRangeSet randomSet(Random random) {
+        VersionRangeSet result = VersionRangeSet.empty();
+        int count = random.nextInt(4);
+        for (int i = 0; i < count; i++) {
+            SemanticVersion lower = random.nextInt(5) == 0 ? null : new SemanticVersion(1, random.nextInt(6), 0);
+            SemanticVersion upper = random.nextInt(5) == 0 ? null : new SemanticVersion(1, random.nextInt(6), 0);
+            result = result.union(VersionRangeSet.between(lower, random.nextBoolean(), upper, random.nextBoolean()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+package com.github.pawelj_pl.semver_j;
+
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class VersionValidatorTest {
+
+    private static final Pattern WITHOUT_LEADING_ZEROS = Pattern.compile(SemanticVersion.WITHOUT_LEADING_ZEROS_PATTERN);
+
+    private static final Pattern WITH_LEADING_ZEROS = Pattern.compile(SemanticVersion.WITH_LEADING_ZEROS_PATTERN);
+
+    private static final Pattern COMPONENTS = Pattern.compile(
+            String.format("(\\d+)\\.(\\d+)\\.(\\d+)(?:-(%s))?(?:\\+(%s))?", SemanticVersion.WITHOUT_LEADING_ZEROS_PATTERN,
+                          SemanticVersion.WITH_LEADING_ZEROS_PATTERN));
+
+    private static final String IDENTIFIER_CHARACTERS =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789.-";
+
+    private static final char[] IDENTIFIER_ALPHABET = {'a', 'Z', '0', '1', '-', '.', '+', '_', '\u00e9'};
+
+    private static final char[] VERSION_ALPHABET = {'0', '1', '9', 'a', '-', '.', '+', '@', '\n'};
+
+    @Test
+    public void shouldMatchPatternsForAllShortIdentifiers() {
+        //given
+        int maxLength = 6;
+
+        //when
+        //then
+        StringBuilder builder = new StringBuilder();
+        for (int length = 0; length <= maxLength; length++) {
+            int combinations = (int) Math.pow(IDENTIFIER_ALPHABET.length, length);
+            for (int combination = 0; combination < combinations; combination++) {
+                builder.setLength(0);
+                int remaining = combination;
+                for (int i = 0; i < length; i++) {
+                    builder.append(IDENTIFIER_ALPHABET[remaining % IDENTIFIER_ALPHABET.length]);
+                    remaining /= IDENTIFIER_ALPHABET.length;
+                }
+                assertIdentifiersConsistent(builder.toString());
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchPatternsForAllShortIdentifiersInsideWords() {
+        //given
+        int maxLength = 5;
+        String prefixes = "a1b2c3d4e";
+        String[] suffixes = {"a", "a."};
+
+        //when
+        //then
+        StringBuilder builder = new StringBuilder();
+        for (int length = 0; length <= maxLength; length++) {
+            int combinations = (int) Math.pow(IDENTIFIER_ALPHABET.length, length);
+            for (int combination = 0; combination < combinations; combination++) {
+                builder.setLength(0);
+                int remaining = combination;
+                for (int i = 0; i < length; i++) {
+                    builder.append(IDENTIFIER_ALPHABET[remaining % IDENTIFIER_ALPHABET.length]);
+                    remaining /= IDENTIFIER_ALPHABET.length;
+                }
+                String identifiers = builder.toString();
+                for (int prefixLength = 0; prefixLength <= prefixes.length(); prefixLength++) {
+                    for (String suffix : suffixes) {
+                        assertScanConsistent(prefixes.substring(0, prefixLength) + identifiers + suffix);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldMatchPatternsForRandomIdentifiers() {
+        //given
+        Random random = new Random(26L);
+
+        //when
+        //then
+        for (int i = 0; i < 200_000; i++) {
+            assertIdentifiersConsistent(randomString(random, IDENTIFIER_ALPHABET, random.nextInt(40), 0.97));
+        }
+    }
+
+    @Test
+    public void shouldValidateVersionBytesLikeFromString() {
+        //given
+        Random random = new Random(260L);
+
+        //when
+        //then
+        for (int i = 0; i < 200_000; i++) {
+            String version = randomVersion(random);
+            assertVersionConsistent(version);
+        }
+    }
+
+    @Test
+    public void shouldValidateVersionInsideLargerArray() {
+        //given
+        byte[] input = "xx1.2.3-beta.1+0007yy".getBytes(StandardCharsets.US_ASCII);
+
+        //when
+        boolean valid = SemanticVersion.isValid(input, 2, input.length - 4);
+        boolean invalid = SemanticVersion.isValid(input, 1, input.length - 3);
+
+        //then
+        assertThat(valid).isTrue();
+        assertThat(invalid).isFalse();
+    }
+
+    @Test
+    public void shouldRejectTrailingLineTerminatorToleratedByFromString() {
+        //given
+        String version = "1.2.3\n";
+        byte[] input = version.getBytes(StandardCharsets.US_ASCII);
+
+        //when
+        boolean valid = SemanticVersion.isValid(input, 0, input.length);
+
+        //then
+        assertThat(valid).isFalse();
+        assertThat(SemanticVersion.fromString(version)).isEqualTo(new SemanticVersion(1, 2, 3));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void shouldFailWhenRangeOutOfBounds() {
+        //given
+        byte[] input = "1.2.3".getBytes(StandardCharsets.US_ASCII);
+
+        //when
+        SemanticVersion.isValid(input, 1, input.length);
+    }
+
+    private void assertIdentifiersConsistent(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        boolean expectedWithout = WITHOUT_LEADING_ZEROS.matcher(value).matches();
+        boolean expectedWith = WITH_LEADING_ZEROS.matcher(value).matches();
+        assertThat(VersionValidator.matchesIdentifiers(value, false)).as(value).isEqualTo(expectedWithout);
+        assertThat(VersionValidator.matchesIdentifiers(value, true)).as(value).isEqualTo(expectedWith);
+        assertThat(VersionValidator.scanIdentifiers(bytes, 0, bytes.length, false) == bytes.length)
+                .as(value).isEqualTo(expectedWithout);
+        assertThat(VersionValidator.scanIdentifiers(bytes, 0, bytes.length, true) == bytes.length)
+                .as(value).isEqualTo(expectedWith);
+    }
+
+    /**
+     * Scans value placed after one byte of padding, so it starts inside a word, and compares returned position and
+     * full match acceptance with the patterns.
+     */
+    private void assertScanConsistent(String value) {
+        byte[] bytes = ("#" + value).getBytes(StandardCharsets.UTF_8);
+        String latin1 = new String(bytes, StandardCharsets.ISO_8859_1);
+        int stop = 1;
+        while (stop < latin1.length() && IDENTIFIER_CHARACTERS.indexOf(latin1.charAt(stop)) >= 0) {
+            stop++;
+        }
+        String scanned = latin1.substring(1, stop);
+        int expectedWithout = WITHOUT_LEADING_ZEROS.matcher(scanned).matches() ? stop : -1;
+        int expectedWith = WITH_LEADING_ZEROS.matcher(scanned).matches() ? stop : -1;
+        assertThat(VersionValidator.scanIdentifiers(bytes, 1, bytes.length, false)).as(value).isEqualTo(expectedWithout);
+        assertThat(VersionValidator.scanIdentifiers(bytes, 1, bytes.length, true)).as(value).isEqualTo(expectedWith);
+        assertThat(VersionValidator.scanIdentifiers(bytes, 1, bytes.length, false) == bytes.length)
+                .as(value).isEqualTo(WITHOUT_LEADING_ZEROS.matcher(latin1.substring(1)).matches());
+        assertThat(VersionValidator.scanIdentifiers(bytes, 1, bytes.length, true) == bytes.length)
+                .as(value).isEqualTo(WITH_LEADING_ZEROS.matcher(latin1.substring(1)).matches());
+    }
+
+    private void assertVersionConsistent(String version) {
+        Matcher matcher = COMPONENTS.matcher(version);
+        SemanticVersion expected = null;
+        try {
+            if (matcher.matches()) {
+                expected = new SemanticVersion(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)),
+                                               Integer.parseInt(matcher.group(3)), matcher.group(4), matcher.group(5));
+            }
+        } catch (NumberFormatException err) {
+            expected = null;
+        }
+        byte[] bytes = ("#" + version + "#").getBytes(StandardCharsets.UTF_8);
+        assertThat(SemanticVersion.isValid(bytes, 1, bytes.length - 2)).as(version).isEqualTo(expected != null);
+        if (expected != null) {
+            assertThat(SemanticVersion.fromString(version)).as(version).isEqualTo(expected);
+        }
+    }
+
+    private String randomVersion(Random random) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(randomNumber(random)).append('.').append(randomNumber(random)).append('.')
+               .append(randomNumber(random));
+        if (random.nextBoolean()) {
+            builder.append('-').append(randomString(random, IDENTIFIER_ALPHABET, random.nextInt(20), 0.98));
+        }
+        if (random.nextBoolean()) {
+            builder.append('+').append(randomString(random, IDENTIFIER_ALPHABET, random.nextInt(20), 0.98));
+        }
+        if (random.nextInt(10) == 0) {
+            builder.insert(random.nextInt(builder.length() + 1), VERSION_ALPHABET[random.nextInt(VERSION_ALPHABET.length)]);
+        }
+        return builder.toString();
+    }
+
+    private String randomNumber(Random random) {
+        switch (random.nextInt(6)) {
+            case 0:
+                return "0" + random.nextInt(100);
+            case 1:
+                return String.valueOf(Integer.MAX_VALUE - random.nextInt(2));
+            case 2:
+                return String.valueOf(Integer.MAX_VALUE + 1L + random.nextInt(100));
+            default:
+                return String.valueOf(random.nextInt(1000));
+        }
+    }
+
+    private String randomString(Random random, char[] alphabet, int length, double safeProbability) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            char next = alphabet[random.nextInt(alphabet.length)];
+            while (random.nextDouble() < safeProbability && (next == '+' || next == '_' || next == '\u00e9')) {
+                next = alphabet[random.nextInt(alphabet.length)];
+            }
+            builder.append(next);
+        }
+        return builder.toString();
+    }
+}